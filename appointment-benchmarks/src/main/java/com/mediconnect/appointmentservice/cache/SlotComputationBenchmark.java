@@ -0,0 +1,151 @@
+package com.mediconnect.appointmentservice.cache;
+
+import com.mediconnect.appointmentservice.DTO.responseDTO.SlotResponse;
+import com.mediconnect.appointmentservice.cache.SlotOccupancyIndex.DayMask;
+import com.mediconnect.appointmentservice.repository.BookedSlot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Slot computation of one doctor day, from an 8 hour clinic day up to a 24 hour telemedicine day,
+ * with 0 to 100% of the slots booked.
+ * <p>
+ * Lives in the package of {@link SlotTemplate} so it can build templates and masks the same way the
+ * service does. Run {@code java -jar target/benchmarks.jar -prof gc} to get the allocation rate
+ * ({@code gc.alloc.rate.norm}, bytes per operation) next to the throughput.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SlotComputationBenchmark {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 2);
+
+    @Param({"8", "12", "24"})
+    private int workingHours;
+
+    @Param({"15", "30"})
+    private int slotMinutes;
+
+    @Param({"0", "25", "50", "75", "100"})
+    private int occupancyPercent;
+
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private SlotTemplate template;
+    private SlotTemplateCache templateCache;
+    private List<BookedSlot> bookedSlots;
+    private DayMask occupied;
+    private LocalDateTime[] probes;
+    private int nextProbe;
+
+    @Setup
+    public void setUp() {
+        startTime = workingHours == 24 ? LocalTime.MIDNIGHT : LocalTime.of(8, 0);
+        endTime = workingHours == 24 ? LocalTime.MAX : startTime.plusHours(workingHours);
+
+        template = new SlotTemplate(startTime, endTime, slotMinutes, 0);
+        templateCache = new SlotTemplateCache(new SimpleMeterRegistry(), 100);
+
+        // The same random share of the day's slots is booked in every run
+        List<Integer> indexes = IntStream.range(0, template.size()).boxed().collect(Collectors.toCollection(ArrayList::new));
+        Collections.shuffle(indexes, new Random(42));
+
+        bookedSlots = indexes.subList(0, template.size() * occupancyPercent / 100).stream()
+                .sorted()
+                .map(index -> {
+                    LocalDateTime slotStart = DAY.atStartOfDay().plusMinutes(template.startMinute(index));
+                    return new BookedSlot(UUID.randomUUID(), slotStart, slotStart.plusMinutes(slotMinutes));
+                })
+                .toList();
+
+        occupied = occupancyMask();
+
+        probes = IntStream.range(0, template.size())
+                .mapToObj(index -> DAY.atStartOfDay().plusMinutes(template.startMinute(index)))
+                .toArray(LocalDateTime[]::new);
+    }
+
+    // available-slots: the day's free slots from the shared template and the occupancy mask
+    @Benchmark
+    public List<SlotResponse> freeSlots() {
+        return template.freeSlots(DAY, occupied);
+    }
+
+    // The same list by checking every slot against the day's bookings, as it was done before the mask
+    @Benchmark
+    public List<SlotResponse> freeSlotsByScanningBookings() {
+
+        List<SlotResponse> slots = new ArrayList<>(template.size());
+        LocalDateTime dayStart = DAY.atStartOfDay();
+
+        for (int i = 0; i < template.size(); i++) {
+            LocalDateTime slotStart = dayStart.plusMinutes(template.startMinute(i));
+            LocalDateTime slotEnd = slotStart.plusMinutes(slotMinutes);
+
+            if (bookedSlots.stream().noneMatch(booked -> booked.overlaps(slotStart, slotEnd))) {
+                slots.add(SlotResponse.builder().slotStart(slotStart).slotEnd(slotEnd).build());
+            }
+        }
+
+        return slots;
+    }
+
+    // Mask of the day built from its booked slots, the way SlotOccupancyIndex merges them on a load
+    @Benchmark
+    public DayMask occupancyMask() {
+        DayMask mask = DayMask.EMPTY;
+        for (BookedSlot slot : bookedSlots) {
+            mask = mask.or(DayMask.EMPTY.with(slot.slotStart(), slot.slotEnd()));
+        }
+        return mask;
+    }
+
+    // Booking and hold validation of a single slot: template lookup, membership and the mask check
+    @Benchmark
+    public boolean validateSlot() {
+        LocalDateTime slotStart = nextProbe();
+        SlotTemplate dayTemplate = templateCache.template(startTime, endTime, slotMinutes, 0);
+        return dayTemplate.contains(slotStart.toLocalTime())
+                && occupied.isFree(slotStart, slotStart.plusMinutes(slotMinutes));
+    }
+
+    // The authoritative booking check against the bookings read from the database
+    @Benchmark
+    public boolean conflictCheckByScan() {
+        LocalDateTime slotStart = nextProbe();
+        LocalDateTime slotEnd = slotStart.plusMinutes(slotMinutes);
+        return bookedSlots.stream().anyMatch(booked -> booked.overlaps(slotStart, slotEnd));
+    }
+
+    private LocalDateTime nextProbe() {
+        LocalDateTime probe = probes[nextProbe];
+        nextProbe = nextProbe + 1 == probes.length ? 0 : nextProbe + 1;
+        return probe;
+    }
+}
@@ -0,0 +1,209 @@
+package com.mediconnect.loadtest;
+
+import com.mediconnect.appointmentservice.AppointmentServiceApplication;
+import com.mediconnect.loadtest.ScenarioResult.Outcome;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Measures how many bookings per second {@code POST /appointments/book} sustains.
+ * <p>
+ * Starts an embedded PostgreSQL, a {@link DoctorServiceStub} with a fixed answer latency and
+ * appointment-service itself in this JVM, then runs two scenarios with the same number of
+ * concurrent clients and reports throughput, p50/p90/p99 latency and the conflict rate:
+ * <ul>
+ *   <li>distinct slots: every request books a slot no other request asks for, spread over the doctors</li>
+ *   <li>contended slots: all requests compete for a few slots of one doctor, so nearly all of them
+ *       end as conflicts, settled by the occupancy index or the overlap constraint</li>
+ * </ul>
+ * Options, with defaults: {@code --concurrency=64 --requests=5000 --doctors=50 --hot-slots=4
+ * --doctor-latency-ms=20 --warmup=500}. Every other {@code --key=value} is handed to
+ * appointment-service, e.g. {@code --app.lookup.parallel=false}.
+ */
+public final class BookingLoadTest {
+
+    private static final Map<String, Integer> DEFAULTS = Map.of(
+            "concurrency", 64,
+            "requests", 5000,
+            "doctors", 50,
+            "hot-slots", 4,
+            "doctor-latency-ms", 20,
+            "warmup", 500);
+
+    // Doctor id ranges of the scenarios, so no scenario finds slots booked by another
+    private static final int WARMUP_DOCTORS = 100_000;
+    private static final int DISTINCT_DOCTORS = 200_000;
+    private static final int CONTENDED_DOCTOR = 300_000;
+
+    private final HttpClient client;
+    private final URI bookUri;
+    private final int concurrency;
+    private final LocalDate firstDay = LocalDate.now().plusDays(1);
+
+    private BookingLoadTest(HttpClient client, URI bookUri, int concurrency) {
+        this.client = client;
+        this.bookUri = bookUri;
+        this.concurrency = concurrency;
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        Map<String, Integer> options = new HashMap<>(DEFAULTS);
+        List<String> serviceArgs = new ArrayList<>();
+
+        for (String arg : args) {
+            String[] option = arg.replaceFirst("^--", "").split("=", 2);
+            if (option.length == 2 && DEFAULTS.containsKey(option[0])) {
+                options.put(option[0], Integer.parseInt(option[1]));
+            } else {
+                serviceArgs.add(arg);
+            }
+        }
+
+        System.out.println("Load test options " + options);
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.start();
+             DoctorServiceStub doctorService = new DoctorServiceStub(options.get("doctor-latency-ms"));
+             ConfigurableApplicationContext service = startService(postgres, doctorService, serviceArgs);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            URI bookUri = URI.create("http://localhost:" + service.getEnvironment().getProperty("local.server.port")
+                    + "/appointments/book");
+            HttpClient client = HttpClient.newBuilder().executor(executor).build();
+            BookingLoadTest loadTest = new BookingLoadTest(client, bookUri, options.get("concurrency"));
+
+            int requests = options.get("requests");
+            int doctors = options.get("doctors");
+            int hotSlots = options.get("hot-slots");
+
+            loadTest.run("warmup", options.get("warmup"), loadTest.distinctSlots(WARMUP_DOCTORS, doctors));
+
+            System.out.print(loadTest.run("distinct slots, " + doctors + " doctors", requests,
+                    loadTest.distinctSlots(DISTINCT_DOCTORS, doctors)).report());
+            System.out.print(loadTest.run("contended slots, " + hotSlots + " slots of one doctor", requests,
+                    loadTest.contendedSlots(hotSlots)).report());
+        }
+    }
+
+    private static ConfigurableApplicationContext startService(
+            EmbeddedPostgres postgres, DoctorServiceStub doctorService, List<String> serviceArgs) {
+
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                // bootstrap.yml imports the config server; skip it and set what the service needs here
+                "--spring.cloud.bootstrap.name=loadtest-bootstrap",
+                "--spring.cloud.config.enabled=false",
+                "--spring.application.name=appointment-service",
+                "--eureka.client.enabled=false",
+                "--spring.cloud.discovery.client.simple.instances.doctor-service[0].uri=" + doctorService.baseUrl(),
+                "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "--spring.datasource.username=postgres",
+                "--logging.level.root=WARN",
+                // lost races in the contended scenario end in unique violations, which are expected here
+                "--logging.level.org.hibernate.orm.jdbc.error=OFF"));
+        args.addAll(serviceArgs);
+
+        return new SpringApplicationBuilder(AppointmentServiceApplication.class).run(args.toArray(String[]::new));
+    }
+
+    // Request i books a slot no other request asks for: doctors in turn, then slots of the day, then days
+    private IntFunction<Booking> distinctSlots(int firstDoctor, int doctors) {
+        return request -> {
+            int perDoctor = request / doctors;
+            LocalDate day = firstDay.plusDays(perDoctor / DoctorServiceStub.SLOTS_PER_DAY);
+            return new Booking(doctorId(firstDoctor + request % doctors),
+                    slotStart(day, perDoctor % DoctorServiceStub.SLOTS_PER_DAY));
+        };
+    }
+
+    private IntFunction<Booking> contendedSlots(int hotSlots) {
+        return request -> new Booking(doctorId(CONTENDED_DOCTOR), slotStart(firstDay, request % hotSlots));
+    }
+
+    private ScenarioResult run(String name, int requests, IntFunction<Booking> bookings) throws InterruptedException {
+
+        ScenarioResult result = new ScenarioResult(name, requests);
+        AtomicInteger next = new AtomicInteger();
+        long start = System.nanoTime();
+
+        // Each client sends its next request as soon as the previous one is answered
+        List<Thread> clients = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            clients.add(Thread.ofVirtual().start(() -> {
+                int request;
+                while ((request = next.getAndIncrement()) < requests) {
+                    book(request, bookings.apply(request), result);
+                }
+            }));
+        }
+
+        for (Thread client : clients) {
+            client.join();
+        }
+
+        result.finish(System.nanoTime() - start);
+        return result;
+    }
+
+    private void book(int request, Booking booking, ScenarioResult result) {
+
+        String body = """
+                {"doctorId": "%s", "patientId": "%s", "slotStart": "%s", "consultationType": "ONLINE", "reason": "load test"}
+                """.formatted(booking.doctorId(), UUID.randomUUID(), booking.slotStart());
+
+        HttpRequest httpRequest = HttpRequest.newBuilder(bookUri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(httpRequest, HttpResponse.BodyHandlers.ofString());
+            long nanos = System.nanoTime() - start;
+
+            if (response.statusCode() == 200) {
+                result.record(request, nanos, Outcome.BOOKED, null);
+            } else if (response.body().contains("already booked") || response.body().contains("held by another patient")) {
+                result.record(request, nanos, Outcome.CONFLICT, null);
+            } else {
+                String message = response.body().length() > 120 ? response.body().substring(0, 120) : response.body();
+                result.record(request, nanos, Outcome.ERROR, "HTTP " + response.statusCode() + " " + message);
+            }
+
+        } catch (IOException e) {
+            result.record(request, System.nanoTime() - start, Outcome.ERROR, e.getClass().getSimpleName());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.record(request, System.nanoTime() - start, Outcome.ERROR, "interrupted");
+        }
+    }
+
+    private static UUID doctorId(int number) {
+        return new UUID(0, number);
+    }
+
+    private static LocalDateTime slotStart(LocalDate day, int slot) {
+        return day.atTime(DoctorServiceStub.WORKDAY_START, 0).plusMinutes((long) slot * DoctorServiceStub.SLOT_MINUTES);
+    }
+
+    private record Booking(UUID doctorId, LocalDateTime slotStart) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.mediconnect.loadtest;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+/**
+ * Stand-in for the two doctor-service endpoints the booking flow calls. Every doctor is active and
+ * works {@link #WORKDAY_START} to {@link #WORKDAY_END} every day in 30 minute slots, and every answer
+ * is delayed by the configured latency.
+ */
+final class DoctorServiceStub implements AutoCloseable {
+
+    static final int WORKDAY_START = 8;
+    static final int WORKDAY_END = 16;
+    static final int SLOT_MINUTES = 30;
+    static final int SLOTS_PER_DAY = (WORKDAY_END - WORKDAY_START) * 60 / SLOT_MINUTES;
+
+    private final WireMockServer server;
+
+    DoctorServiceStub(int latencyMs) {
+        server = new WireMockServer(wireMockConfig().dynamicPort().containerThreads(200));
+        server.start();
+
+        server.stubFor(get(urlPathMatching("/api/v1/doctors/[0-9a-f-]+"))
+                .willReturn(json(latencyMs, """
+                        {"success": true, "message": "ok", "data": {
+                          "doctorId": "00000000-0000-0000-0000-000000000000",
+                          "name": "Load Test", "primarySpecialization": "GENERAL", "active": true}}
+                        """)));
+
+        String availability = Arrays.stream(DayOfWeek.values())
+                .map(day -> """
+                        {"dayOfWeek": "%s", "startTime": "%02d:00:00", "endTime": "%02d:00:00",
+                         "available": true, "slotMinutes": %d, "bufferMinutes": 0}"""
+                        .formatted(day, WORKDAY_START, WORKDAY_END, SLOT_MINUTES))
+                .collect(Collectors.joining(","));
+
+        server.stubFor(get(urlPathMatching("/api/v1/doctors/calendar/[0-9a-f-]+"))
+                .willReturn(json(latencyMs, """
+                        {"success": true, "message": "ok", "data": {
+                          "leaves": [], "schedules": [], "availability": [%s]}}
+                        """.formatted(availability))));
+    }
+
+    String baseUrl() {
+        return server.baseUrl();
+    }
+
+    @Override
+    public void close() {
+        server.stop();
+    }
+
+    private static com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder json(int latencyMs, String body) {
+        return aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withFixedDelay(latencyMs)
+                .withBody(body);
+    }
+}
@@ -0,0 +1,69 @@
+package com.mediconnect.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Outcome and latency of every request of one scenario; requests record into their own index, so no locking
+final class ScenarioResult {
+
+    enum Outcome { BOOKED, CONFLICT, ERROR }
+
+    private final String name;
+    private final long[] latencyNanos;
+    private final Outcome[] outcomes;
+    private final Map<String, AtomicInteger> errors = new ConcurrentHashMap<>();
+    private long elapsedNanos;
+
+    ScenarioResult(String name, int requests) {
+        this.name = name;
+        this.latencyNanos = new long[requests];
+        this.outcomes = new Outcome[requests];
+    }
+
+    void record(int request, long nanos, Outcome outcome, String error) {
+        latencyNanos[request] = nanos;
+        outcomes[request] = outcome;
+        if (error != null) {
+            errors.computeIfAbsent(error, ignored -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+
+    void finish(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    String report() {
+        long[] sorted = latencyNanos.clone();
+        Arrays.sort(sorted);
+
+        int requests = sorted.length;
+        long booked = count(Outcome.BOOKED);
+        long conflicts = count(Outcome.CONFLICT);
+        long failed = count(Outcome.ERROR);
+        double seconds = elapsedNanos / 1e9;
+
+        StringBuilder report = new StringBuilder()
+                .append("%n== %s ==%n".formatted(name))
+                .append("requests     %d in %.2f s%n".formatted(requests, seconds))
+                .append("throughput   %.1f requests/s, %.1f bookings/s%n".formatted(requests / seconds, booked / seconds))
+                .append("booked       %d%n".formatted(booked))
+                .append("conflicts    %d (%.1f%%)%n".formatted(conflicts, 100.0 * conflicts / requests))
+                .append("errors       %d%n".formatted(failed))
+                .append("latency ms   p50 %.1f  p90 %.1f  p99 %.1f  max %.1f%n".formatted(
+                        percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99), sorted[requests - 1] / 1e6));
+
+        errors.forEach((message, count) -> report.append("  %5d x %s%n".formatted(count.get(), message)));
+        return report.toString();
+    }
+
+    private long count(Outcome outcome) {
+        return Arrays.stream(outcomes).filter(outcome::equals).count();
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
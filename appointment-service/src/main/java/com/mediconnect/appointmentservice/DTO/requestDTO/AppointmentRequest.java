@@ -15,6 +15,7 @@ public class AppointmentRequest {
     private UUID patientId;
 
     private LocalDateTime slotStart;
+    // Ignored, the end follows from the doctor's slot length
     private LocalDateTime slotEnd;
 
     private ConsultationType consultationType;
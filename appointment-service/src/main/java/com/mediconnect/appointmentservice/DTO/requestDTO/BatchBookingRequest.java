@@ -0,0 +1,29 @@
+package com.mediconnect.appointmentservice.DTO.requestDTO;
+
+import com.mediconnect.appointmentservice.enums.ConsultationType;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+public class BatchBookingRequest {
+
+    private UUID doctorId;
+    private UUID patientId;
+
+    // explicit slot starts; when empty the recurrence below is used
+    private List<LocalDateTime> slotStarts;
+
+    // recurrence: occurrences slots, intervalDays apart, starting at firstSlotStart
+    private LocalDateTime firstSlotStart;
+    private Integer occurrences;
+    private Integer intervalDays = 7;
+
+    private ConsultationType consultationType;
+
+    private String reason;
+}
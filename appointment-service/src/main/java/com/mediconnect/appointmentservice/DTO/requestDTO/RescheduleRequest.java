@@ -10,5 +10,6 @@ import java.time.LocalDateTime;
 public class RescheduleRequest {
 
     private LocalDateTime newSlotStart;
+    // Ignored, the end follows from the doctor's slot length
     private LocalDateTime newSlotEnd;
 }
\ No newline at end of file
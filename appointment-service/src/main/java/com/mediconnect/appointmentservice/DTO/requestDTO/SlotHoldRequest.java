@@ -0,0 +1,17 @@
+package com.mediconnect.appointmentservice.DTO.requestDTO;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+public class SlotHoldRequest {
+
+    private UUID doctorId;
+    private UUID patientId;
+
+    private LocalDateTime slotStart;
+}
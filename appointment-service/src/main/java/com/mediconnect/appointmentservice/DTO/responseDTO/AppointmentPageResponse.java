@@ -0,0 +1,19 @@
+package com.mediconnect.appointmentservice.DTO.responseDTO;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+public class AppointmentPageResponse {
+
+    private List<AppointmentResponse> appointments;
+
+    // pass back as cursor to get the next page, null on the last page
+    private String nextCursor;
+    private boolean hasMore;
+}
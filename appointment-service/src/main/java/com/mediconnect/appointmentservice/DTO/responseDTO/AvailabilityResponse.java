@@ -15,4 +15,8 @@ public class AvailabilityResponse {
     private LocalTime startTime;
     private LocalTime endTime;
     private boolean available;
+
+    // Null when doctor-service has no slot settings for the day
+    private Integer slotMinutes;
+    private Integer bufferMinutes;
 }
\ No newline at end of file
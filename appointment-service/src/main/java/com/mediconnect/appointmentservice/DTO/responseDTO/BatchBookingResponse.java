@@ -0,0 +1,20 @@
+package com.mediconnect.appointmentservice.DTO.responseDTO;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+public class BatchBookingResponse {
+
+    private int requested;
+    private int booked;
+    private int failed;
+
+    // one entry per requested slot, in slot order
+    private List<BatchSlotResult> results;
+}
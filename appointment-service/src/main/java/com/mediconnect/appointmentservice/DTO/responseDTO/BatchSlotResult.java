@@ -0,0 +1,25 @@
+package com.mediconnect.appointmentservice.DTO.responseDTO;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+public class BatchSlotResult {
+
+    private LocalDateTime slotStart;
+    private LocalDateTime slotEnd;
+
+    private boolean booked;
+
+    // set when booked
+    private UUID appointmentId;
+
+    // why the slot was not booked
+    private String message;
+}
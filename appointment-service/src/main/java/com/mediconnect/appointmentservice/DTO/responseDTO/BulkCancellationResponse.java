@@ -0,0 +1,22 @@
+package com.mediconnect.appointmentservice.DTO.responseDTO;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+public class BulkCancellationResponse {
+
+    private UUID doctorId;
+    private LocalDate from;
+    private LocalDate to;
+
+    private int cancelledCount;
+    private List<UUID> appointmentIds;
+}
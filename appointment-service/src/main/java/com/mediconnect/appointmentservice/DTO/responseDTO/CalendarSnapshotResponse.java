@@ -0,0 +1,21 @@
+package com.mediconnect.appointmentservice.DTO.responseDTO;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+public class CalendarSnapshotResponse {
+
+    private UUID doctorId;
+    private LocalDate from;
+    private LocalDate to;
+
+    private List<LeaveResponse> leaves;
+    private List<ScheduleResponse> schedules;
+    private List<AvailabilityResponse> availability;
+}
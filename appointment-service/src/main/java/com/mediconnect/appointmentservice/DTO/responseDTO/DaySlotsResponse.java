@@ -0,0 +1,22 @@
+package com.mediconnect.appointmentservice.DTO.responseDTO;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+public class DaySlotsResponse {
+
+    private LocalDate date;
+    private boolean available;
+
+    // why the day has no free slots (leave, no working hours, fully booked)
+    private String message;
+
+    private List<SlotResponse> slots;
+}
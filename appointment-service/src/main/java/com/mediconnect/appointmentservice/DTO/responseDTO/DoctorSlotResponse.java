@@ -0,0 +1,20 @@
+package com.mediconnect.appointmentservice.DTO.responseDTO;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+public class DoctorSlotResponse {
+
+    private UUID doctorId;
+    private String primarySpecialization;
+
+    private LocalDateTime slotStart;
+    private LocalDateTime slotEnd;
+}
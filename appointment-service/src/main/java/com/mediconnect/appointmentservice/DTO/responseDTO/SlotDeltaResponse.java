@@ -0,0 +1,21 @@
+package com.mediconnect.appointmentservice.DTO.responseDTO;
+
+import com.mediconnect.appointmentservice.enums.SlotChange;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+public class SlotDeltaResponse {
+
+    private long eventId;   // id of the appointment event, also sent as the SSE id; unique, not ordered
+    private UUID doctorId;
+    private SlotChange change;
+    private LocalDateTime slotStart;
+    private LocalDateTime slotEnd;
+}
@@ -0,0 +1,23 @@
+package com.mediconnect.appointmentservice.DTO.responseDTO;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+public class SlotHoldResponse {
+
+    private UUID holdId;
+    private UUID doctorId;
+    private UUID patientId;
+
+    private LocalDateTime slotStart;
+    private LocalDateTime slotEnd;
+
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,20 @@
+package com.mediconnect.appointmentservice.DTO.responseDTO;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+public class SlotSearchResponse {
+
+    private List<DoctorSlotResponse> slots;
+
+    // false when some doctors could not be evaluated in time, earlier slots of theirs may be missing
+    private boolean complete;
+    private List<UUID> skippedDoctorIds;
+}
@@ -0,0 +1,218 @@
+package com.mediconnect.appointmentservice.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mediconnect.appointmentservice.DTO.responseDTO.CalendarSnapshotResponse;
+import com.mediconnect.appointmentservice.DTO.responseDTO.DoctorResponse;
+import com.mediconnect.appointmentservice.client.DoctorClient;
+import com.mediconnect.appointmentservice.client.DoctorClientPolicy;
+import com.mediconnect.appointmentservice.client.DoctorClientPolicy.Operation;
+import com.mediconnect.appointmentservice.exception.DoctorServiceUnavailableException;
+import com.mediconnect.appointmentservice.util.ApiResponse;
+import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Local cache in front of {@link DoctorClient}. Doctor profiles and calendars change a few
+ * times a week, so entries live for a bounded TTL and size, and doctor-service calls the
+ * invalidation endpoint of every instance whenever it changes availability, schedules or leaves.
+ * That call is best effort: an instance it doesn't reach serves the old data until
+ * {@code app.doctor-cache.ttl-seconds} runs out, so the TTL is the real bound on staleness.
+ * Hit, miss and eviction counts are published as cache.* metrics.
+ * <p>
+ * Every successful load is also kept as the last known good value for
+ * {@code app.doctor-cache.last-known-good-ttl-seconds}. While doctor-service is unavailable
+ * (see {@link DoctorClientPolicy}) an expired entry is answered from there instead of failing.
+ * Those answers can be older than the TTL, so keep that window as short as an outage may last.
+ * <p>
+ * Misses load on their own virtual thread and callers wait on the shared future. A synchronous
+ * Caffeine loader would block inside the cache's map lock, which pins the caller's carrier thread
+ * while the doctor-service call waits for one, and with few cores that stalls every request.
+ * <p>
+ * Invalidating drops the in-flight loads of the doctor with the entries. A load that was already
+ * running still completes for the callers waiting on it, but the generation it started under is
+ * outdated by then, so it does not bring its result back as the last known value.
+ */
+@Component
+@Slf4j
+public class DoctorDataCache {
+
+    private final DoctorClient doctorClient;
+    private final DoctorClientPolicy doctorClientPolicy;
+    private final ExecutorService loadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AsyncCache<UUID, DoctorResponse> doctors;
+    private final AsyncCache<CalendarKey, CalendarSnapshotResponse> calendars;
+    private final Cache<UUID, DoctorResponse> lastKnownDoctors;
+    private final Cache<CalendarKey, CalendarSnapshotResponse> lastKnownCalendars;
+    // bumped before the entries are removed, see generation
+    private final Map<UUID, Long> invalidations = new ConcurrentHashMap<>();
+    private final AtomicLong clears = new AtomicLong();
+
+    public DoctorDataCache(
+            DoctorClient doctorClient,
+            DoctorClientPolicy doctorClientPolicy,
+            MeterRegistry meterRegistry,
+            @Value("${app.doctor-cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${app.doctor-cache.max-size:10000}") long maxSize,
+            @Value("${app.doctor-cache.last-known-good-ttl-seconds:900}") long lastKnownGoodTtlSeconds) {
+
+        this.doctorClient = doctorClient;
+        this.doctorClientPolicy = doctorClientPolicy;
+
+        this.doctors = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .recordStats()
+                .buildAsync();
+
+        this.calendars = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .recordStats()
+                .buildAsync();
+
+        this.lastKnownDoctors = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(lastKnownGoodTtlSeconds))
+                .maximumSize(maxSize)
+                .build();
+
+        this.lastKnownCalendars = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(lastKnownGoodTtlSeconds))
+                .maximumSize(maxSize)
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, doctors, "doctor-profiles");
+        CaffeineCacheMetrics.monitor(meterRegistry, calendars, "doctor-calendars");
+    }
+
+    // Returns null, without caching, when doctor-service has no data for the doctor
+    public DoctorResponse getDoctor(UUID doctorId) {
+        try {
+            return await(doctors.get(doctorId, (id, executor) -> {
+                long generation = generation(id);
+                return load(() -> {
+                    DoctorResponse doctor = data(() -> doctorClientPolicy.call(Operation.PROFILE, () -> doctorClient.getDoctorById(id)));
+                    if (doctor != null) {
+                        remember(lastKnownDoctors, id, doctor, id, generation);
+                    }
+                    return doctor;
+                });
+            }));
+        } catch (DoctorServiceUnavailableException e) {
+            DoctorResponse lastKnown = lastKnownDoctors.getIfPresent(doctorId);
+            if (lastKnown == null) {
+                throw e;
+            }
+            log.warn("Using last known profile of doctor {}: {}", doctorId, e.getMessage());
+            return lastKnown;
+        }
+    }
+
+    public CalendarSnapshotResponse getCalendarSnapshot(UUID doctorId, LocalDate from, LocalDate to) {
+        CalendarKey calendarKey = new CalendarKey(doctorId, from, to);
+        try {
+            return await(calendars.get(calendarKey, (key, executor) -> {
+                long generation = generation(doctorId);
+                return load(() -> {
+                    CalendarSnapshotResponse calendar = data(() -> doctorClientPolicy.call(Operation.CALENDAR,
+                            () -> doctorClient.getCalendarSnapshot(doctorId, from, to)));
+                    if (calendar != null) {
+                        remember(lastKnownCalendars, key, calendar, doctorId, generation);
+                    }
+                    return calendar;
+                });
+            }));
+        } catch (DoctorServiceUnavailableException e) {
+            CalendarSnapshotResponse lastKnown = lastKnownCalendars.getIfPresent(calendarKey);
+            if (lastKnown == null) {
+                throw e;
+            }
+            log.warn("Using last known calendar of doctor {} for {} to {}: {}", doctorId, from, to, e.getMessage());
+            return lastKnown;
+        }
+    }
+
+    // Both counters only grow, so the sum changes whenever the doctor or the whole cache was invalidated
+    private long generation(UUID doctorId) {
+        return clears.get() + invalidations.getOrDefault(doctorId, 0L);
+    }
+
+    // An invalidation that came in while loading wins, also when it removed the entry before this put
+    private <K, V> void remember(Cache<K, V> lastKnown, K key, V value, UUID doctorId, long generation) {
+        lastKnown.put(key, value);
+        if (generation(doctorId) != generation) {
+            lastKnown.asMap().remove(key, value);
+        }
+    }
+
+    private <T> CompletableFuture<T> load(Supplier<T> loader) {
+        return CompletableFuture.supplyAsync(loader, loadExecutor);
+    }
+
+    // Rethrows what the load threw, so callers see the same exceptions as a direct call
+    private static <T> T await(CompletableFuture<T> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // A 404 from doctor-service means it has no data for the doctor, which is not a failure
+    private static <T> T data(Supplier<ApiResponse<T>> call) {
+        try {
+            ApiResponse<T> response = call.get();
+            return response == null ? null : response.getData();
+        } catch (FeignException.NotFound e) {
+            return null;
+        }
+    }
+
+    public void invalidateDoctor(UUID doctorId) {
+        invalidations.merge(doctorId, 1L, Long::sum);
+        // the last known values are outdated now as well
+        doctors.synchronous().invalidate(doctorId);
+        lastKnownDoctors.invalidate(doctorId);
+        calendars.asMap().keySet().removeIf(key -> key.doctorId().equals(doctorId));
+        lastKnownCalendars.asMap().keySet().removeIf(key -> key.doctorId().equals(doctorId));
+        log.info("Doctor cache invalidated for doctor {}", doctorId);
+    }
+
+    public void invalidateAll() {
+        clears.incrementAndGet();
+        doctors.synchronous().invalidateAll();
+        calendars.synchronous().invalidateAll();
+        lastKnownDoctors.invalidateAll();
+        lastKnownCalendars.invalidateAll();
+        log.info("Doctor cache cleared");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        loadExecutor.shutdownNow();
+    }
+
+    private record CalendarKey(UUID doctorId, LocalDate from, LocalDate to) {
+    }
+}
@@ -0,0 +1,99 @@
+package com.mediconnect.appointmentservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Short-lived reservations of single slots, taken before the patient confirms a booking.
+ * <p>
+ * Two patients racing for one slot are settled here by an atomic compute on the slot key,
+ * so the loser gets a cheap rejection instead of a failed insert. Holds expire on their own
+ * after {@code app.slot-hold.ttl-seconds}. The table is local to this instance; the partial
+ * unique index on appointments still decides races between instances.
+ */
+@Component
+@Slf4j
+public class SlotHoldTable {
+
+    private final Duration ttl;
+    private final Cache<SlotKey, SlotHold> holdsBySlot;
+    private final Cache<UUID, SlotKey> slotsByHold;
+
+    public SlotHoldTable(
+            @Value("${app.slot-hold.ttl-seconds:120}") long ttlSeconds,
+            @Value("${app.slot-hold.max-size:100000}") long maxSize) {
+
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.holdsBySlot = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+        this.slotsByHold = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * Places a hold on the slot for the patient. Returns the existing hold when the same patient
+     * asks again, and null when another patient holds the slot.
+     */
+    public SlotHold tryHold(UUID doctorId, LocalDateTime slotStart, UUID patientId) {
+
+        SlotKey key = new SlotKey(doctorId, slotStart);
+
+        SlotHold hold = holdsBySlot.asMap().computeIfAbsent(key, slot ->
+                new SlotHold(UUID.randomUUID(), doctorId, patientId, slotStart, LocalDateTime.now().plus(ttl)));
+
+        if (!hold.patientId().equals(patientId)) {
+            return null;
+        }
+
+        slotsByHold.put(hold.holdId(), key);
+        return hold;
+    }
+
+    // True when another patient holds the slot right now
+    public boolean isHeldByOther(UUID doctorId, LocalDateTime slotStart, UUID patientId) {
+        SlotHold current = holdsBySlot.getIfPresent(new SlotKey(doctorId, slotStart));
+        return current != null && !current.patientId().equals(patientId);
+    }
+
+    // Drops the patient's hold once the slot has been booked
+    public void confirm(UUID doctorId, LocalDateTime slotStart, UUID patientId) {
+        SlotKey key = new SlotKey(doctorId, slotStart);
+        SlotHold current = holdsBySlot.getIfPresent(key);
+        if (current != null && current.patientId().equals(patientId) && holdsBySlot.asMap().remove(key, current)) {
+            slotsByHold.invalidate(current.holdId());
+        }
+    }
+
+    // Removes the hold only if it is still the one on its slot
+    public boolean release(UUID holdId) {
+        SlotKey key = slotsByHold.asMap().remove(holdId);
+        if (key == null) {
+            return false;
+        }
+        SlotHold current = holdsBySlot.getIfPresent(key);
+        boolean removed = current != null
+                && current.holdId().equals(holdId)
+                && holdsBySlot.asMap().remove(key, current);
+        if (removed) {
+            log.debug("Released hold {} on doctor {} at {}", holdId, key.doctorId(), key.slotStart());
+        }
+        return removed;
+    }
+
+    public record SlotHold(UUID holdId, UUID doctorId, UUID patientId, LocalDateTime slotStart, LocalDateTime expiresAt) {
+    }
+
+    private record SlotKey(UUID doctorId, LocalDateTime slotStart) {
+    }
+}
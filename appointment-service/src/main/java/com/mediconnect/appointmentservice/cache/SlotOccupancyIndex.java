@@ -0,0 +1,256 @@
+package com.mediconnect.appointmentservice.cache;
+
+import com.mediconnect.appointmentservice.repository.AppointmentRepository;
+import com.mediconnect.appointmentservice.repository.BookedSlot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory index of booked time per (doctor, day).
+ * <p>
+ * A day is stored as a {@link DayMask}: bit i means the 5-minute unit starting at minute i * 5
+ * of that day is covered by a booking (288 units in five longs), so slots of any length that is
+ * a multiple of 5 minutes can be checked against it. Entries are rebuilt from the non-cancelled
+ * slots in {@link AppointmentRepository} on miss, extended in place when this instance books and
+ * dropped when it cancels or reschedules. Entries expire after a short TTL so changes made by
+ * other instances are picked up; the database stays the source of truth.
+ * <p>
+ * Inside a transaction a day is only dropped once the transaction committed, otherwise a reload
+ * in between would read the rows still being cancelled and cache them as booked. A reload whose
+ * query overlapped any drop is returned but not cached, for the same reason.
+ */
+@Component
+@Slf4j
+public class SlotOccupancyIndex {
+
+    public static final int UNIT_MINUTES = 5;
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int UNITS_PER_DAY = MINUTES_PER_DAY / UNIT_MINUTES;
+
+    // Crude bound, the whole index is dropped and rebuilt lazily when it gets this big
+    private static final int MAX_ENTRIES = 100_000;
+
+    private final AppointmentRepository appointmentRepository;
+    private final long ttlNanos;
+    private final Map<DayKey, DayOccupancy> days = new ConcurrentHashMap<>();
+    private final AtomicLong drops = new AtomicLong();
+
+    public SlotOccupancyIndex(
+            AppointmentRepository appointmentRepository,
+            @Value("${app.occupancy.ttl-seconds:60}") long ttlSeconds) {
+        this.appointmentRepository = appointmentRepository;
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+    }
+
+    // Occupancy mask for the day, loaded from the database on miss
+    public DayMask occupancy(UUID doctorId, LocalDate date) {
+        DayOccupancy cached = fresh(new DayKey(doctorId, date));
+        if (cached != null) {
+            return cached.mask();
+        }
+        return load(doctorId, date, date).getOrDefault(date, DayMask.EMPTY);
+    }
+
+    // Fills every missing or expired day of [from, to] with one query
+    public void preload(UUID doctorId, LocalDate from, LocalDate to) {
+
+        boolean complete = true;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (fresh(new DayKey(doctorId, date)) == null) {
+                complete = false;
+                break;
+            }
+        }
+        if (!complete) {
+            load(doctorId, from, to);
+        }
+    }
+
+    private Map<LocalDate, DayMask> load(UUID doctorId, LocalDate from, LocalDate to) {
+
+        long dropsBefore = drops.get();
+        List<BookedSlot> bookedSlots = appointmentRepository.findBookedSlots(
+                doctorId,
+                from.atStartOfDay(),
+                to.atTime(LocalTime.MAX)
+        );
+
+        Map<LocalDate, DayMask> masksByDate = new HashMap<>();
+        for (BookedSlot slot : bookedSlots) {
+            masksByDate.merge(slot.slotStart().toLocalDate(),
+                    DayMask.EMPTY.with(slot.slotStart(), slot.slotEnd()),
+                    DayMask::or);
+        }
+
+        if (days.size() > MAX_ENTRIES) {
+            log.info("Slot occupancy index reached {} entries, clearing", days.size());
+            days.clear();
+        }
+
+        // Checked per key inside compute, so a drop of the same key either sees the new entry or is seen here
+        long loadedAt = System.nanoTime();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            DayOccupancy loaded = new DayOccupancy(masksByDate.getOrDefault(date, DayMask.EMPTY), loadedAt);
+            days.compute(new DayKey(doctorId, date), (key, current) -> drops.get() == dropsBefore ? loaded : current);
+        }
+        return masksByDate;
+    }
+
+    // Only answers from what is already loaded, never hits the database
+    public boolean isKnownOccupied(UUID doctorId, LocalDateTime slotStart, LocalDateTime slotEnd) {
+        DayOccupancy cached = fresh(new DayKey(doctorId, slotStart.toLocalDate()));
+        return cached != null && !cached.mask().isFree(slotStart, slotEnd);
+    }
+
+    public void occupy(UUID doctorId, LocalDateTime slotStart, LocalDateTime slotEnd) {
+        days.computeIfPresent(new DayKey(doctorId, slotStart.toLocalDate()),
+                (key, day) -> new DayOccupancy(day.mask().with(slotStart, slotEnd), day.loadedAt()));
+    }
+
+    // Bookings of different lengths may share units, so the day is reloaded rather than cleared bit by bit
+    public void release(UUID doctorId, LocalDateTime slotStart) {
+        invalidate(doctorId, slotStart.toLocalDate());
+    }
+
+    public void invalidate(UUID doctorId, LocalDate date) {
+        afterCommit(() -> {
+            drops.incrementAndGet();
+            days.remove(new DayKey(doctorId, date));
+        });
+    }
+
+    public void invalidate(UUID doctorId, LocalDate from, LocalDate to) {
+        afterCommit(() -> {
+            drops.incrementAndGet();
+            days.keySet().removeIf(key -> key.doctorId().equals(doctorId)
+                    && !key.date().isBefore(from)
+                    && !key.date().isAfter(to));
+        });
+    }
+
+    // Runs the action once the caller's transaction committed, or right away outside a transaction
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private DayOccupancy fresh(DayKey key) {
+        DayOccupancy day = days.get(key);
+        if (day == null || System.nanoTime() - day.loadedAt() > ttlNanos) {
+            return null;
+        }
+        return day;
+    }
+
+    /**
+     * Immutable bitmap of the booked 5-minute units of one day.
+     */
+    public static final class DayMask {
+
+        public static final DayMask EMPTY = new DayMask(new long[(UNITS_PER_DAY + 63) / 64]);
+
+        private final long[] words;
+
+        private DayMask(long[] words) {
+            this.words = words;
+        }
+
+        // True when no booked unit falls inside [startMinute, startMinute + minutes)
+        public boolean isFree(int startMinute, int minutes) {
+            int from = firstUnit(startMinute);
+            int to = endUnit(startMinute + minutes);
+            for (int unit = from; unit < to; unit++) {
+                if ((words[unit >>> 6] & (1L << unit)) != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        public boolean isFree(LocalDateTime slotStart, LocalDateTime slotEnd) {
+            int startMinute = minuteOfDay(slotStart);
+            return isFree(startMinute, endMinute(slotStart, slotEnd) - startMinute);
+        }
+
+        DayMask with(LocalDateTime slotStart, LocalDateTime slotEnd) {
+            long[] copy = words.clone();
+            int from = firstUnit(minuteOfDay(slotStart));
+            // A slot always covers at least its first unit, even with a missing or inverted end
+            int to = Math.max(from + 1, endUnit(endMinute(slotStart, slotEnd)));
+            for (int unit = from; unit < to && unit < UNITS_PER_DAY; unit++) {
+                copy[unit >>> 6] |= 1L << unit;
+            }
+            return new DayMask(copy);
+        }
+
+        DayMask or(DayMask other) {
+            long[] copy = words.clone();
+            for (int i = 0; i < copy.length; i++) {
+                copy[i] |= other.words[i];
+            }
+            return new DayMask(copy);
+        }
+
+        private static int firstUnit(int minute) {
+            return Math.max(0, minute / UNIT_MINUTES);
+        }
+
+        private static int endUnit(int minute) {
+            return Math.min(UNITS_PER_DAY, (minute + UNIT_MINUTES - 1) / UNIT_MINUTES);
+        }
+
+        private static int minuteOfDay(LocalDateTime time) {
+            return time.toLocalTime().toSecondOfDay() / 60;
+        }
+
+        // Slots running past midnight are cut at the end of their start day
+        private static int endMinute(LocalDateTime slotStart, LocalDateTime slotEnd) {
+            if (slotEnd == null || !slotEnd.isAfter(slotStart)) {
+                return minuteOfDay(slotStart);
+            }
+            if (!slotEnd.toLocalDate().equals(slotStart.toLocalDate())) {
+                return MINUTES_PER_DAY;
+            }
+            return minuteOfDay(slotEnd);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof DayMask other && Arrays.equals(words, other.words);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(words);
+        }
+    }
+
+    private record DayKey(UUID doctorId, LocalDate date) {
+    }
+
+    private record DayOccupancy(DayMask mask, long loadedAt) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.mediconnect.appointmentservice.cache;
+
+import com.mediconnect.appointmentservice.DTO.responseDTO.SlotResponse;
+import com.mediconnect.appointmentservice.cache.SlotOccupancyIndex.DayMask;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Slot start minutes of one working window, independent of the date.
+ * <p>
+ * Instances are immutable and shared through {@link SlotTemplateCache}; a concrete day is
+ * produced by adding the start minutes to the start of that day.
+ */
+public final class SlotTemplate {
+
+    private final int slotMinutes;
+    private final int bufferMinutes;
+    private final int[] startMinutes;
+
+    SlotTemplate(LocalTime startTime, LocalTime endTime, int slotMinutes, int bufferMinutes) {
+        this.slotMinutes = slotMinutes;
+        this.bufferMinutes = bufferMinutes;
+
+        int first = startTime.toSecondOfDay() / 60;
+        int last = endTime.toSecondOfDay() / 60;
+        int step = slotMinutes + bufferMinutes;
+
+        int count = 0;
+        for (int minute = first; minute + slotMinutes <= last; minute += step) {
+            count++;
+        }
+
+        this.startMinutes = new int[count];
+        for (int i = 0, minute = first; i < count; i++, minute += step) {
+            startMinutes[i] = minute;
+        }
+    }
+
+    public int slotMinutes() {
+        return slotMinutes;
+    }
+
+    public int bufferMinutes() {
+        return bufferMinutes;
+    }
+
+    public int size() {
+        return startMinutes.length;
+    }
+
+    public int startMinute(int index) {
+        return startMinutes[index];
+    }
+
+    // Applies the template to a day and only allocates slots that are clear in the occupancy mask
+    public List<SlotResponse> freeSlots(LocalDate date, DayMask occupied) {
+
+        List<SlotResponse> slots = new ArrayList<>(startMinutes.length);
+        LocalDateTime dayStart = date.atStartOfDay();
+
+        for (int minute : startMinutes) {
+
+            if (!occupied.isFree(minute, slotMinutes)) {
+                continue;
+            }
+
+            slots.add(SlotResponse.builder()
+                    .slotStart(dayStart.plusMinutes(minute))
+                    .slotEnd(dayStart.plusMinutes(minute + slotMinutes))
+                    .build());
+        }
+
+        return slots;
+    }
+
+    // True when a slot of this template starts exactly at the given time
+    public boolean contains(LocalTime start) {
+        if (start.getSecond() != 0 || start.getNano() != 0) {
+            return false;
+        }
+        return Arrays.binarySearch(startMinutes, start.toSecondOfDay() / 60) >= 0;
+    }
+}
@@ -0,0 +1,43 @@
+package com.mediconnect.appointmentservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalTime;
+
+/**
+ * Shared {@link SlotTemplate}s keyed by the slot settings that produce them.
+ * <p>
+ * The key is the working window together with slot length and buffer, so doctors with the same
+ * settings share one template and any change of settings simply maps to a new entry; nothing
+ * has to be invalidated when doctor-service reports new availability.
+ */
+@Component
+public class SlotTemplateCache {
+
+    private final Cache<SlotSettings, SlotTemplate> templates;
+
+    public SlotTemplateCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.slot-template.max-size:10000}") long maxSize) {
+
+        this.templates = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, templates, "slot-templates");
+    }
+
+    public SlotTemplate template(LocalTime startTime, LocalTime endTime, int slotMinutes, int bufferMinutes) {
+        return templates.get(new SlotSettings(startTime, endTime, slotMinutes, bufferMinutes),
+                settings -> new SlotTemplate(startTime, endTime, slotMinutes, bufferMinutes));
+    }
+
+    private record SlotSettings(LocalTime startTime, LocalTime endTime, int slotMinutes, int bufferMinutes) {
+    }
+}
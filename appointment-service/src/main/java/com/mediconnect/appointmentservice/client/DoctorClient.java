@@ -2,6 +2,7 @@ package com.mediconnect.appointmentservice.client;
 
 
 import com.mediconnect.appointmentservice.DTO.responseDTO.AvailabilityResponse;
+import com.mediconnect.appointmentservice.DTO.responseDTO.CalendarSnapshotResponse;
 import com.mediconnect.appointmentservice.DTO.responseDTO.DoctorResponse;
 import com.mediconnect.appointmentservice.DTO.responseDTO.LeaveResponse;
 import com.mediconnect.appointmentservice.DTO.responseDTO.ScheduleResponse;
@@ -10,7 +11,9 @@ import com.mediconnect.appointmentservice.util.ApiResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -28,4 +31,15 @@ public interface DoctorClient {
 
     @GetMapping("/api/v1/doctors/schedules/{doctorId}")
     ApiResponse<List<ScheduleResponse>> getSchedules(@PathVariable("doctorId") UUID doctorId);
+
+    @GetMapping("/api/v1/doctors/specialization/{specialization}")
+    ApiResponse<List<DoctorResponse>> getActiveDoctorsBySpecialization(
+            @PathVariable("specialization") String specialization);
+
+    // Leaves, schedule overrides and weekly hours for [from, to] in a single hop
+    @GetMapping("/api/v1/doctors/calendar/{doctorId}")
+    ApiResponse<CalendarSnapshotResponse> getCalendarSnapshot(
+            @PathVariable("doctorId") UUID doctorId,
+            @RequestParam("from") LocalDate from,
+            @RequestParam("to") LocalDate to);
 }
\ No newline at end of file
@@ -0,0 +1,158 @@
+package com.mediconnect.appointmentservice.client;
+
+import com.mediconnect.appointmentservice.exception.DoctorServiceUnavailableException;
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Guards every {@link DoctorClient} call with a timeout per operation, a bulkhead and a circuit breaker.
+ * <p>
+ * The call runs on its own virtual thread and the caller stops waiting when the operation's
+ * timeout is reached. The bulkhead caps how many calls to doctor-service are in flight, counting
+ * abandoned ones until they really finish, and rejects further calls instead of queueing them.
+ * Timeouts, connection errors and 5xx answers count as failures; once too many of the recent
+ * calls failed the circuit opens and calls fail fast for {@code app.doctor-client.open-seconds}.
+ * All of these surface as {@link DoctorServiceUnavailableException}, other client errors such as
+ * a 404 are passed through unchanged. State is published as resilience4j.* metrics.
+ */
+@Component
+@Slf4j
+public class DoctorClientPolicy {
+
+    public enum Operation {
+        PROFILE,
+        CALENDAR,
+        SEARCH
+    }
+
+    private final Map<Operation, Duration> timeouts = new EnumMap<>(Operation.class);
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public DoctorClientPolicy(
+            MeterRegistry meterRegistry,
+            @Value("${app.doctor-client.profile-timeout-ms:1000}") long profileTimeoutMs,
+            @Value("${app.doctor-client.calendar-timeout-ms:1500}") long calendarTimeoutMs,
+            @Value("${app.doctor-client.search-timeout-ms:2000}") long searchTimeoutMs,
+            @Value("${app.doctor-client.max-concurrent-calls:50}") int maxConcurrentCalls,
+            @Value("${app.doctor-client.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${app.doctor-client.open-seconds:30}") long openSeconds) {
+
+        timeouts.put(Operation.PROFILE, Duration.ofMillis(profileTimeoutMs));
+        timeouts.put(Operation.CALENDAR, Duration.ofMillis(calendarTimeoutMs));
+        timeouts.put(Operation.SEARCH, Duration.ofMillis(searchTimeoutMs));
+
+        CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(20)
+                .minimumNumberOfCalls(10)
+                .failureRateThreshold(failureRateThreshold)
+                .waitDurationInOpenState(Duration.ofSeconds(openSeconds))
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .recordException(DoctorClientPolicy::isServiceFailure)
+                .build());
+
+        BulkheadRegistry bulkheads = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+
+        this.circuitBreaker = circuitBreakers.circuitBreaker("doctor-service");
+        this.bulkhead = bulkheads.bulkhead("doctor-service");
+
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("doctor-service circuit {}", event.getStateTransition()));
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(meterRegistry);
+    }
+
+    public <T> T call(Operation operation, Supplier<T> request) {
+
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new DoctorServiceUnavailableException("doctor-service is unavailable, circuit is open");
+        }
+
+        if (!bulkhead.tryAcquirePermission()) {
+            circuitBreaker.releasePermission();
+            throw new DoctorServiceUnavailableException("Too many concurrent calls to doctor-service");
+        }
+
+        Duration timeout = timeouts.get(operation);
+        long start = System.nanoTime();
+
+        Future<T> future = executor.submit(() -> {
+            try {
+                return request.get();
+            } finally {
+                bulkhead.onComplete();
+            }
+        });
+
+        try {
+            T result = future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            circuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+            throw new DoctorServiceUnavailableException(
+                    "doctor-service did not answer the " + operation.name().toLowerCase() + " call within " + timeout.toMillis() + " ms");
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            circuitBreaker.releasePermission();
+            throw new DoctorServiceUnavailableException("Call to doctor-service was interrupted");
+
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, cause);
+
+            if (isServiceFailure(cause)) {
+                throw new DoctorServiceUnavailableException("doctor-service call failed: " + cause.getMessage(), cause);
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 4xx answers mean doctor-service is up and said no; status -1 is a connection or read failure
+    private static boolean isServiceFailure(Throwable error) {
+        if (error instanceof FeignException feignException) {
+            return feignException.status() < 0 || feignException.status() >= 500;
+        }
+        return true;
+    }
+}
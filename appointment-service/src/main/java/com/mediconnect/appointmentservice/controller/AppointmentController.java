@@ -1,18 +1,39 @@
 package com.mediconnect.appointmentservice.controller;
 
 import com.mediconnect.appointmentservice.DTO.requestDTO.AppointmentRequest;
+import com.mediconnect.appointmentservice.DTO.requestDTO.BatchBookingRequest;
 import com.mediconnect.appointmentservice.DTO.requestDTO.RescheduleRequest;
+import com.mediconnect.appointmentservice.DTO.requestDTO.SlotHoldRequest;
+import com.mediconnect.appointmentservice.DTO.responseDTO.AppointmentPageResponse;
 import com.mediconnect.appointmentservice.DTO.responseDTO.AppointmentResponse;
+import com.mediconnect.appointmentservice.DTO.responseDTO.BatchBookingResponse;
+import com.mediconnect.appointmentservice.DTO.responseDTO.BulkCancellationResponse;
+import com.mediconnect.appointmentservice.DTO.responseDTO.DaySlotsResponse;
+import com.mediconnect.appointmentservice.DTO.responseDTO.SlotHoldResponse;
 import com.mediconnect.appointmentservice.DTO.responseDTO.SlotResponse;
+import com.mediconnect.appointmentservice.DTO.responseDTO.SlotSearchResponse;
+import com.mediconnect.appointmentservice.enums.AppointmentStatus;
+import com.mediconnect.appointmentservice.enums.ExportFormat;
+import com.mediconnect.appointmentservice.event.SlotFeed;
+import com.mediconnect.appointmentservice.exception.BadRequestException;
 import com.mediconnect.appointmentservice.service.AppointmentService;
 import com.mediconnect.appointmentservice.util.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.time.LocalDate;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Slf4j
 @RestController
@@ -21,6 +42,8 @@ import java.util.UUID;
 public class AppointmentController {
 
         private final AppointmentService appointmentService;
+        private final JsonMapper jsonMapper;
+        private final SlotFeed slotFeed;
 
         @PostMapping("/book")
         public ResponseEntity<ApiResponse<AppointmentResponse>> bookAppointment(
@@ -36,6 +59,44 @@ public class AppointmentController {
                 return ResponseEntity.ok(response);
         }
 
+        // Per-slot outcome is in the results, the call itself succeeds even if some slots could not be booked
+        @PostMapping("/book/batch")
+        public ResponseEntity<ApiResponse<BatchBookingResponse>> bookBatch(
+                        @RequestBody BatchBookingRequest request) {
+
+                BatchBookingResponse batch = appointmentService.bookBatch(request);
+                ApiResponse<BatchBookingResponse> response = ApiResponse.<BatchBookingResponse>builder()
+                        .success(batch.getBooked() > 0)
+                        .message(batch.getBooked() + " of " + batch.getRequested() + " appointments booked")
+                        .data(batch)
+                        .build();
+                return ResponseEntity.ok(response);
+        }
+
+        @PostMapping("/holds")
+        public ResponseEntity<ApiResponse<SlotHoldResponse>> holdSlot(
+                        @RequestBody SlotHoldRequest request) {
+
+                SlotHoldResponse hold = appointmentService.holdSlot(request);
+                ApiResponse<SlotHoldResponse> response = ApiResponse.<SlotHoldResponse>builder()
+                        .success(true)
+                        .message("Slot held until " + hold.getExpiresAt())
+                        .data(hold)
+                        .build();
+                return ResponseEntity.ok(response);
+        }
+
+        @DeleteMapping("/holds/{holdId}")
+        public ResponseEntity<ApiResponse<Void>> releaseHold(
+                        @PathVariable("holdId") UUID holdId) {
+
+                appointmentService.releaseHold(holdId);
+                return ResponseEntity.ok(ApiResponse.<Void>builder()
+                        .success(true)
+                        .message("Slot hold released")
+                        .build());
+        }
+
         @GetMapping("/available-slots/{doctorId}")
         public ResponseEntity<ApiResponse<List<SlotResponse>>> getAvailableSlots(
                         @PathVariable("doctorId") UUID doctorId,
@@ -50,6 +111,63 @@ public class AppointmentController {
                 return ResponseEntity.ok(response);
         }
 
+        // Subscribe before fetching the day's slots, then apply the pushed deltas to that list
+        @GetMapping(value = "/available-slots/{doctorId}/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+        public SseEmitter subscribeToSlotChanges(
+                        @PathVariable("doctorId") UUID doctorId,
+                        @RequestParam("date") String date) {
+
+                LocalDate day = LocalDate.parse(date);
+
+                if (day.isBefore(LocalDate.now())) {
+                        throw new BadRequestException("Cannot subscribe to a past date");
+                }
+
+                return slotFeed.subscribe(doctorId, day);
+        }
+
+        // Streams one JSON line per day so the first day renders before the last one is computed
+        @GetMapping(value = "/available-slots/{doctorId}/range", produces = MediaType.APPLICATION_NDJSON_VALUE)
+        public ResponseEntity<StreamingResponseBody> getAvailableSlotsInRange(
+                        @PathVariable("doctorId") UUID doctorId,
+                        @RequestParam("from") String from,
+                        @RequestParam("to") String to) {
+
+                Stream<DaySlotsResponse> days = appointmentService.getAvailableSlotsInRange(doctorId, from, to);
+
+                StreamingResponseBody body = out -> {
+                        try (days) {
+                                Iterator<DaySlotsResponse> iterator = days.iterator();
+                                while (iterator.hasNext()) {
+                                        out.write(jsonMapper.writeValueAsBytes(iterator.next()));
+                                        out.write('\n');
+                                        out.flush();
+                                }
+                        }
+                };
+
+                return ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .body(body);
+        }
+
+        @GetMapping("/search")
+        public ResponseEntity<ApiResponse<SlotSearchResponse>> searchFirstAvailableSlots(
+                        @RequestParam("specialization") String specialization,
+                        @RequestParam("start") String start,
+                        @RequestParam("end") String end,
+                        @RequestParam(value = "limit", defaultValue = "5") int limit) {
+
+                SlotSearchResponse slots = appointmentService.searchFirstAvailableSlots(specialization, start, end, limit);
+                ApiResponse<SlotSearchResponse> response = ApiResponse.<SlotSearchResponse>builder()
+                        .success(true)
+                        .message(slots.isComplete()
+                                ? "Available slots fetched successfully"
+                                : "Available slots fetched, " + slots.getSkippedDoctorIds().size() + " doctors could not be checked in time")
+                        .data(slots)
+                        .build();
+                return ResponseEntity.ok(response);
+        }
 
         @GetMapping("/patient/{patientId}")
         public ResponseEntity<ApiResponse<List<AppointmentResponse>>> getPatientAppointments(
@@ -64,6 +182,26 @@ public class AppointmentController {
                 return ResponseEntity.ok(response);
         }
 
+        // One keyset page; follow nextCursor for the next one
+        @GetMapping("/patient/{patientId}/page")
+        public ResponseEntity<ApiResponse<AppointmentPageResponse>> getPatientAppointmentPage(
+                        @PathVariable("patientId") UUID patientId,
+                        @RequestParam(value = "status", required = false) AppointmentStatus status,
+                        @RequestParam(value = "from", required = false) String from,
+                        @RequestParam(value = "to", required = false) String to,
+                        @RequestParam(value = "cursor", required = false) String cursor,
+                        @RequestParam(value = "size", defaultValue = "20") int size) {
+                AppointmentPageResponse appointments = appointmentService.getAppointmentsByPatient(
+                                patientId, status, from, to, cursor, size);
+                ApiResponse<AppointmentPageResponse> response = ApiResponse.<AppointmentPageResponse>builder()
+                                .success(true)
+                                .message("Patient appointments fetched successfully")
+                                .data(appointments)
+                                .build();
+
+                return ResponseEntity.ok(response);
+        }
+
         @GetMapping("/doctor/{doctorId}")
         public ResponseEntity<ApiResponse<List<AppointmentResponse>>> getDoctorAppointments(
                         @PathVariable("doctorId") UUID doctorId) {
@@ -77,6 +215,47 @@ public class AppointmentController {
                 return ResponseEntity.ok(response);
         }
 
+        // One keyset page; follow nextCursor for the next one
+        @GetMapping("/doctor/{doctorId}/page")
+        public ResponseEntity<ApiResponse<AppointmentPageResponse>> getDoctorAppointmentPage(
+                        @PathVariable("doctorId") UUID doctorId,
+                        @RequestParam(value = "status", required = false) AppointmentStatus status,
+                        @RequestParam(value = "from", required = false) String from,
+                        @RequestParam(value = "to", required = false) String to,
+                        @RequestParam(value = "cursor", required = false) String cursor,
+                        @RequestParam(value = "size", defaultValue = "20") int size) {
+                AppointmentPageResponse appointments = appointmentService.getAppointmentsByDoctor(
+                                doctorId, status, from, to, cursor, size);
+                ApiResponse<AppointmentPageResponse> response = ApiResponse.<AppointmentPageResponse>builder()
+                                .success(true)
+                                .message("Doctor appointments fetched successfully")
+                                .data(appointments)
+                                .build();
+
+                return ResponseEntity.ok(response);
+        }
+
+        // Rows are written as they are read from the database, memory use does not depend on the range
+        @GetMapping("/doctor/{doctorId}/export")
+        public ResponseEntity<StreamingResponseBody> exportDoctorAppointments(
+                        @PathVariable("doctorId") UUID doctorId,
+                        @RequestParam("from") String from,
+                        @RequestParam("to") String to,
+                        @RequestParam(value = "format", defaultValue = "CSV") ExportFormat format) {
+
+                appointmentService.validateExportRange(from, to);
+
+                StreamingResponseBody body = out ->
+                        appointmentService.exportDoctorAppointments(doctorId, from, to, format, out);
+
+                String filename = "appointments-" + doctorId + "-" + from + "-" + to + "." + format.getExtension();
+
+                return ResponseEntity.ok()
+                        .contentType(format.getMediaType())
+                        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                        .body(body);
+        }
+
         @PatchMapping("/{appointmentId}")
         public ResponseEntity<ApiResponse<AppointmentResponse>> cancelAppointment(
                 @PathVariable("appointmentId") UUID appointmentId) {
@@ -89,6 +268,22 @@ public class AppointmentController {
         }
 
 
+        // Called by doctor-service when a leave is added
+        @PatchMapping("/doctor/{doctorId}/cancel")
+        public ResponseEntity<ApiResponse<BulkCancellationResponse>> cancelDoctorAppointmentsInRange(
+                @PathVariable("doctorId") UUID doctorId,
+                @RequestParam("from") String from,
+                @RequestParam("to") String to) {
+
+                BulkCancellationResponse cancelled = appointmentService.cancelDoctorAppointmentsInRange(doctorId, from, to);
+
+                return ResponseEntity.ok(ApiResponse.<BulkCancellationResponse>builder()
+                        .success(true)
+                        .message(cancelled.getCancelledCount() + " appointments cancelled")
+                        .data(cancelled)
+                        .build());
+        }
+
         @PatchMapping("/reschedule/{appointmentId}")
         public ResponseEntity<ApiResponse<AppointmentResponse>> rescheduleAppointment(
                 @PathVariable UUID appointmentId,
@@ -0,0 +1,47 @@
+package com.mediconnect.appointmentservice.controller;
+
+import com.mediconnect.appointmentservice.cache.DoctorDataCache;
+import com.mediconnect.appointmentservice.event.SlotFeed;
+import com.mediconnect.appointmentservice.util.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+// Called by doctor-service after it changes a doctor's availability, schedules or leaves
+@RestController
+@RequestMapping("/appointments/cache/doctors")
+@RequiredArgsConstructor
+public class DoctorCacheController {
+
+        private final DoctorDataCache doctorDataCache;
+        private final SlotFeed slotFeed;
+
+        @DeleteMapping("/{doctorId}")
+        public ResponseEntity<ApiResponse<String>> invalidateDoctor(
+                        @PathVariable("doctorId") UUID doctorId) {
+
+                doctorDataCache.invalidateDoctor(doctorId);
+                slotFeed.reload(doctorId);
+
+                return ResponseEntity.ok(ApiResponse.<String>builder()
+                        .success(true)
+                        .message("Doctor cache invalidated")
+                        .data(doctorId.toString())
+                        .build());
+        }
+
+        @DeleteMapping
+        public ResponseEntity<ApiResponse<String>> invalidateAll() {
+
+                doctorDataCache.invalidateAll();
+                slotFeed.reloadAll();
+
+                return ResponseEntity.ok(ApiResponse.<String>builder()
+                        .success(true)
+                        .message("Doctor cache cleared")
+                        .data("Cleared")
+                        .build());
+        }
+}
@@ -0,0 +1,26 @@
+package com.mediconnect.appointmentservice.controller;
+
+import com.mediconnect.appointmentservice.event.AppointmentEvent;
+import com.mediconnect.appointmentservice.event.SlotFeed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// Called by the other appointment-service instances with the events their outbox relay delivered
+@RestController
+@RequestMapping("/appointments/feed")
+@RequiredArgsConstructor
+public class SlotFeedController {
+
+        private final SlotFeed slotFeed;
+
+        @PostMapping("/events")
+        public ResponseEntity<Void> receiveEvents(@RequestBody List<AppointmentEvent> events) {
+
+                events.forEach(slotFeed::onAppointmentEvent);
+
+                return ResponseEntity.noContent().build();
+        }
+}
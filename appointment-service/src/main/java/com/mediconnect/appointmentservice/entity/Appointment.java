@@ -9,10 +9,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(
-        name = "appointments",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"doctor_id", "slot_start"})
-)
+// (doctor_id, slot_start) is unique among non-cancelled rows, see db/migration/V2__unique_active_slot.sql;
+// indexes for the listing and booked-slot queries live in the later migrations
+@Table(name = "appointments")
 @Getter
 @Setter
 @Builder
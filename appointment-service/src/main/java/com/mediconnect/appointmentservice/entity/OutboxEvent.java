@@ -0,0 +1,54 @@
+package com.mediconnect.appointmentservice.entity;
+
+import com.mediconnect.appointmentservice.enums.AppointmentEventType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+// Created by db/migration/V5__appointment_outbox.sql; the sequence hands out ids 50 at a time
+// so the events of a batch booking are inserted as one JDBC batch
+@Table(name = "appointment_outbox")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "appointment_outbox_seq")
+    @SequenceGenerator(name = "appointment_outbox_seq", sequenceName = "appointment_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private AppointmentEventType eventType;
+
+    @Column(name = "appointment_id", nullable = false)
+    private UUID appointmentId;
+
+    @Column(name = "doctor_id", nullable = false)
+    private UUID doctorId;
+
+    @Column(name = "patient_id", nullable = false)
+    private UUID patientId;
+
+    @Column(name = "slot_start", nullable = false)
+    private LocalDateTime slotStart;
+
+    @Column(name = "slot_end", nullable = false)
+    private LocalDateTime slotEnd;
+
+    // previous slot is only set for RESCHEDULED
+    @Column(name = "previous_slot_start")
+    private LocalDateTime previousSlotStart;
+
+    @Column(name = "previous_slot_end")
+    private LocalDateTime previousSlotEnd;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+}
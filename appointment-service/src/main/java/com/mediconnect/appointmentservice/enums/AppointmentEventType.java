@@ -0,0 +1,7 @@
+package com.mediconnect.appointmentservice.enums;
+
+public enum AppointmentEventType {
+    BOOKED,
+    CANCELLED,
+    RESCHEDULED
+}
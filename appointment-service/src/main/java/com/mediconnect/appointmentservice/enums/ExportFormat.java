@@ -0,0 +1,24 @@
+package com.mediconnect.appointmentservice.enums;
+
+import org.springframework.http.MediaType;
+
+public enum ExportFormat {
+    CSV("csv", MediaType.parseMediaType("text/csv")),
+    NDJSON("ndjson", MediaType.APPLICATION_NDJSON);
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    ExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+}
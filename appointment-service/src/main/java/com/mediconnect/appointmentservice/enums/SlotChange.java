@@ -0,0 +1,6 @@
+package com.mediconnect.appointmentservice.enums;
+
+public enum SlotChange {
+    TAKEN,
+    FREED
+}
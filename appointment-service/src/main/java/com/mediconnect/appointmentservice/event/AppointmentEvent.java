@@ -0,0 +1,28 @@
+package com.mediconnect.appointmentservice.event;
+
+import com.mediconnect.appointmentservice.enums.AppointmentEventType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A committed change of one appointment, as handed to an {@link AppointmentEventSink}.
+ * <p>
+ * {@code eventId} is the outbox id. It identifies the event and says nothing about its order:
+ * ids are handed out in blocks per instance, transactions commit out of id order and relay
+ * batches may overtake each other. Delivery is at least once, so consumers should deduplicate
+ * by {@code eventId}, never drop an event because a higher id was seen before.
+ * {@code previousSlotStart} and {@code previousSlotEnd} are only set for {@link AppointmentEventType#RESCHEDULED}.
+ */
+public record AppointmentEvent(
+        long eventId,
+        AppointmentEventType type,
+        UUID appointmentId,
+        UUID doctorId,
+        UUID patientId,
+        LocalDateTime slotStart,
+        LocalDateTime slotEnd,
+        LocalDateTime previousSlotStart,
+        LocalDateTime previousSlotEnd,
+        LocalDateTime occurredAt) {
+}
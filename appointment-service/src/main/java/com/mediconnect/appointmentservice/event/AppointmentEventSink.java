@@ -0,0 +1,14 @@
+package com.mediconnect.appointmentservice.event;
+
+import java.util.List;
+
+/**
+ * Where {@link OutboxRelay} delivers appointment events. The implementation in use is picked
+ * with {@code app.outbox.sink}; register another bean under a different value to send the
+ * events to a broker instead.
+ */
+public interface AppointmentEventSink {
+
+    // Events come in no particular order and may repeat. Throwing leaves the whole batch in the outbox for the next run.
+    void publish(List<AppointmentEvent> events);
+}
@@ -0,0 +1,41 @@
+package com.mediconnect.appointmentservice.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Default sink: republishes every event on the Spring event bus for @EventListener beans of this instance.
+ * <p>
+ * Only the {@link SlotFeed} of the other instances gets the events as well, forwarded through
+ * {@link SlotFeedPeers} once the relay's transaction committed, so a rolled back batch is not sent twice.
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.sink", havingValue = "in-process", matchIfMissing = true)
+@RequiredArgsConstructor
+public class InProcessAppointmentEventSink implements AppointmentEventSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final SlotFeedPeers slotFeedPeers;
+
+    @Override
+    public void publish(List<AppointmentEvent> events) {
+        events.forEach(eventPublisher::publishEvent);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            slotFeedPeers.broadcast(events);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                slotFeedPeers.broadcast(events);
+            }
+        });
+    }
+}
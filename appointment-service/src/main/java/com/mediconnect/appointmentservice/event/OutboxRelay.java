@@ -0,0 +1,82 @@
+package com.mediconnect.appointmentservice.event;
+
+import com.mediconnect.appointmentservice.entity.OutboxEvent;
+import com.mediconnect.appointmentservice.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Drains the appointment outbox into the configured {@link AppointmentEventSink}.
+ * <p>
+ * Every run takes up to {@code app.outbox.batch-size} of the oldest events under a row lock,
+ * hands them to the sink in one call and deletes them in the same transaction. A failing sink
+ * rolls the batch back, so it is delivered again on the next run. Full batches are followed
+ * by another one right away until the outbox is drained.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final AppointmentEventSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            AppointmentEventSink sink,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.outbox.batch-size:200}") int batchSize) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sink = sink;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:500}")
+    public void relay() {
+        try {
+            int published;
+            do {
+                published = relayBatch();
+            } while (published == batchSize);
+        } catch (Exception e) {
+            log.warn("Publishing appointment events failed, retrying on the next run: {}", e.getMessage());
+        }
+    }
+
+    private int relayBatch() {
+        Integer published = transactionTemplate.execute(status -> {
+            List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(batchSize);
+
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            sink.publish(batch.stream().map(this::toEvent).toList());
+            outboxEventRepository.deleteAllByIdInBatch(batch.stream().map(OutboxEvent::getId).toList());
+            return batch.size();
+        });
+
+        return published == null ? 0 : published;
+    }
+
+    private AppointmentEvent toEvent(OutboxEvent event) {
+        return new AppointmentEvent(
+                event.getId(),
+                event.getEventType(),
+                event.getAppointmentId(),
+                event.getDoctorId(),
+                event.getPatientId(),
+                event.getSlotStart(),
+                event.getSlotEnd(),
+                event.getPreviousSlotStart(),
+                event.getPreviousSlotEnd(),
+                event.getOccurredAt());
+    }
+}
@@ -0,0 +1,55 @@
+package com.mediconnect.appointmentservice.event;
+
+import com.mediconnect.appointmentservice.entity.Appointment;
+import com.mediconnect.appointmentservice.entity.OutboxEvent;
+import com.mediconnect.appointmentservice.enums.AppointmentEventType;
+import com.mediconnect.appointmentservice.repository.BookedSlot;
+import com.mediconnect.appointmentservice.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Records appointment events in the transaction that changes the appointment, so an event exists exactly when the change was committed
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(AppointmentEventType type, Appointment appointment) {
+        append(type, appointment, null);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(AppointmentEventType type, Appointment appointment, BookedSlot previousSlot) {
+        outboxEventRepository.save(toOutboxEvent(type, appointment, previousSlot, LocalDateTime.now()));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(AppointmentEventType type, List<Appointment> appointments) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxEventRepository.saveAll(appointments.stream()
+                .map(appointment -> toOutboxEvent(type, appointment, null, now))
+                .toList());
+    }
+
+    private OutboxEvent toOutboxEvent(
+            AppointmentEventType type, Appointment appointment, BookedSlot previousSlot, LocalDateTime occurredAt) {
+        return OutboxEvent.builder()
+                .eventType(type)
+                .appointmentId(appointment.getId())
+                .doctorId(appointment.getDoctorId())
+                .patientId(appointment.getPatientId())
+                .slotStart(appointment.getSlotStart())
+                .slotEnd(appointment.getSlotEnd())
+                .previousSlotStart(previousSlot == null ? null : previousSlot.slotStart())
+                .previousSlotEnd(previousSlot == null ? null : previousSlot.slotEnd())
+                .occurredAt(occurredAt)
+                .build();
+    }
+}
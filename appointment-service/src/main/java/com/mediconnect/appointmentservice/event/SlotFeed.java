@@ -0,0 +1,203 @@
+package com.mediconnect.appointmentservice.event;
+
+import com.mediconnect.appointmentservice.DTO.responseDTO.SlotDeltaResponse;
+import com.mediconnect.appointmentservice.enums.SlotChange;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes slot changes of one doctor and day to subscribed booking pages over server-sent events.
+ * <p>
+ * Deltas are built from the {@link AppointmentEvent}s the outbox relay publishes, so they follow
+ * a committed change after at most one relay interval. A {@code slot} event carries a
+ * {@link SlotDeltaResponse}: TAKEN when an appointment occupies the slot, FREED when a
+ * cancellation or reschedule gives it up. A FREED slot may still be unbookable because of the
+ * doctor's calendar; calendar changes are sent as a {@code reload} event, after which the client
+ * fetches the day's available slots again.
+ * <p>
+ * Events are taken after the relay's transaction committed and only queued for each subscriber,
+ * up to {@code app.slot-feed.buffer-size}; a virtual thread per busy subscriber does the writing.
+ * A slow or half-open client therefore never holds up the relay or other subscribers. A client
+ * whose queue is full is disconnected, and its browser reconnects and fetches the day again.
+ * <p>
+ * Subscriptions are local to this instance. Events relayed on another instance arrive through
+ * {@link SlotFeedPeers}; a sink other than the in-process one has to deliver every event to every
+ * instance itself.
+ */
+@Component
+@Slf4j
+public class SlotFeed {
+
+    private final long timeoutMs;
+    private final int bufferSize;
+    private final Map<FeedKey, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    public SlotFeed(
+            @Value("${app.slot-feed.timeout-ms:1800000}") long timeoutMs,
+            @Value("${app.slot-feed.buffer-size:64}") int bufferSize) {
+        this.timeoutMs = timeoutMs;
+        this.bufferSize = bufferSize;
+    }
+
+    public SseEmitter subscribe(UUID doctorId, LocalDate date) {
+
+        FeedKey key = new FeedKey(doctorId, date);
+        Subscriber subscriber = new Subscriber(key, new SseEmitter(timeoutMs), new ArrayBlockingQueue<>(bufferSize));
+
+        subscribers.computeIfAbsent(key, ignored -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        subscriber.emitter().onCompletion(() -> unsubscribe(subscriber));
+        subscriber.emitter().onTimeout(() -> unsubscribe(subscriber));
+        subscriber.emitter().onError(error -> unsubscribe(subscriber));
+
+        return subscriber.emitter();
+    }
+
+    // After commit, so a batch the relay rolls back and delivers again is not pushed twice
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAppointmentEvent(AppointmentEvent event) {
+        switch (event.type()) {
+            case BOOKED -> publish(event, SlotChange.TAKEN, event.slotStart(), event.slotEnd());
+            case CANCELLED -> publish(event, SlotChange.FREED, event.slotStart(), event.slotEnd());
+            case RESCHEDULED -> {
+                publish(event, SlotChange.FREED, event.previousSlotStart(), event.previousSlotEnd());
+                publish(event, SlotChange.TAKEN, event.slotStart(), event.slotEnd());
+            }
+        }
+    }
+
+    // The doctor's working hours, schedule or leaves changed, every open day of that doctor has to be fetched again
+    public void reload(UUID doctorId) {
+        subscribers.forEach((key, feed) -> {
+            if (key.doctorId().equals(doctorId)) {
+                feed.forEach(subscriber -> enqueue(subscriber, SseEmitter.event().name("reload").data(key.date().toString())));
+            }
+        });
+    }
+
+    // The whole doctor cache was dropped, every open day has to be fetched again
+    public void reloadAll() {
+        subscribers.forEach((key, feed) ->
+                feed.forEach(subscriber -> enqueue(subscriber, SseEmitter.event().name("reload").data(key.date().toString()))));
+    }
+
+    // Idle connections are closed by proxies after a while, a comment line keeps them open and finds dead clients
+    @Scheduled(fixedDelayString = "${app.slot-feed.heartbeat-ms:25000}")
+    public void heartbeat() {
+        subscribers.forEach((key, feed) ->
+                feed.forEach(subscriber -> enqueue(subscriber, SseEmitter.event().comment("keep-alive"))));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+    }
+
+    private void publish(AppointmentEvent event, SlotChange change, LocalDateTime slotStart, LocalDateTime slotEnd) {
+
+        if (slotStart == null) {
+            return;
+        }
+
+        FeedKey key = new FeedKey(event.doctorId(), slotStart.toLocalDate());
+        Set<Subscriber> feed = subscribers.get(key);
+
+        if (feed == null) {
+            return;
+        }
+
+        SlotDeltaResponse delta = SlotDeltaResponse.builder()
+                .eventId(event.eventId())
+                .doctorId(event.doctorId())
+                .change(change)
+                .slotStart(slotStart)
+                .slotEnd(slotEnd)
+                .build();
+
+        feed.forEach(subscriber -> enqueue(subscriber, SseEmitter.event()
+                .id(String.valueOf(event.eventId()))
+                .name("slot")
+                .data(delta, MediaType.APPLICATION_JSON)));
+    }
+
+    // Never blocks the caller; a subscriber that let its queue fill up has fallen too far behind
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (!subscriber.queue().offer(event)) {
+            log.debug("Slot feed subscriber of doctor {} on {} is too slow, disconnecting",
+                    subscriber.key().doctorId(), subscriber.key().date());
+            unsubscribe(subscriber);
+            subscriber.emitter().complete();
+            return;
+        }
+        if (subscriber.sending().compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    // At most one drain per subscriber runs at a time, which keeps its events in order
+    private void drain(Subscriber subscriber) {
+        do {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscriber.queue().poll()) != null) {
+                if (!send(subscriber, event)) {
+                    subscriber.queue().clear();
+                    return;
+                }
+            }
+            subscriber.sending().set(false);
+            // an event queued after the last poll but before the flag was cleared started no drain of its own
+        } while (!subscriber.queue().isEmpty() && subscriber.sending().compareAndSet(false, true));
+    }
+
+    private boolean send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.emitter().send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // the client went away, the container reports it through onError as well
+            log.debug("Dropping slot feed subscriber of doctor {} on {}: {}",
+                    subscriber.key().doctorId(), subscriber.key().date(), e.getMessage());
+            unsubscribe(subscriber);
+            return false;
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.key(), (ignored, feed) -> {
+            feed.remove(subscriber);
+            return feed.isEmpty() ? null : feed;
+        });
+    }
+
+    private record FeedKey(UUID doctorId, LocalDate date) {
+    }
+
+    private record Subscriber(FeedKey key, SseEmitter emitter, BlockingQueue<SseEmitter.SseEventBuilder> queue,
+                              AtomicBoolean sending) {
+
+        Subscriber(FeedKey key, SseEmitter emitter, BlockingQueue<SseEmitter.SseEventBuilder> queue) {
+            this(key, emitter, queue, new AtomicBoolean());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.mediconnect.appointmentservice.event;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Hands relayed appointment events to the {@link SlotFeed} of every other appointment-service instance.
+ * <p>
+ * The outbox relay delivers each event on one instance only, while booking pages are subscribed
+ * to whichever instance they reached. The events are posted to each instance registered in
+ * discovery, other than this one, on a virtual thread per instance so the relay never waits on them.
+ * An instance that can't be reached misses the deltas; its clients catch up on their next reload.
+ */
+@Component
+@Slf4j
+public class SlotFeedPeers {
+
+    private static final String SERVICE_ID = "appointment-service";
+
+    private final DiscoveryClient discoveryClient;
+    private final ObjectProvider<Registration> registration;
+    private final RestClient restClient;
+    private final String path;
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    public SlotFeedPeers(
+            DiscoveryClient discoveryClient,
+            ObjectProvider<Registration> registration,
+            @Value("${server.servlet.context-path:}") String path,
+            @Value("${app.slot-feed.peer-timeout-ms:2000}") long timeoutMs) {
+
+        this.discoveryClient = discoveryClient;
+        this.registration = registration;
+        this.path = path;
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(timeoutMs))
+                .build());
+        requestFactory.setReadTimeout(Duration.ofMillis(timeoutMs));
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+    }
+
+    public void broadcast(List<AppointmentEvent> events) {
+
+        Registration self = registration.getIfAvailable();
+        String selfId = self == null ? null : self.getInstanceId();
+
+        for (ServiceInstance instance : discoveryClient.getInstances(SERVICE_ID)) {
+            if (instance.getInstanceId() != null && instance.getInstanceId().equals(selfId)) {
+                continue;
+            }
+            senders.execute(() -> send(instance, events));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+    }
+
+    private void send(ServiceInstance instance, List<AppointmentEvent> events) {
+        try {
+            restClient.post()
+                    .uri(instance.getUri() + path + "/appointments/feed/events")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(events)
+                    .retrieve()
+                    .toBodilessEntity();
+        } catch (Exception e) {
+            log.warn("Failed to forward {} appointment events to the slot feed on {}: {}",
+                    events.size(), instance.getUri(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.mediconnect.appointmentservice.exception;
+
+public class DoctorServiceUnavailableException extends RuntimeException {
+    public DoctorServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public DoctorServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,5 +1,6 @@
 package com.mediconnect.appointmentservice.exception;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -27,6 +28,30 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(res, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<?> handleConflict(DataIntegrityViolationException ex) {
+        Map<String, Object> res = new HashMap<>();
+        res.put("status", false);
+        res.put("message", "Request conflicts with existing data");
+        return new ResponseEntity<>(res, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(LookupTimeoutException.class)
+    public ResponseEntity<?> handleLookupTimeout(LookupTimeoutException ex) {
+        Map<String, Object> res = new HashMap<>();
+        res.put("status", false);
+        res.put("message", ex.getMessage());
+        return new ResponseEntity<>(res, HttpStatus.GATEWAY_TIMEOUT);
+    }
+
+    @ExceptionHandler(DoctorServiceUnavailableException.class)
+    public ResponseEntity<?> handleDoctorServiceUnavailable(DoctorServiceUnavailableException ex) {
+        Map<String, Object> res = new HashMap<>();
+        res.put("status", false);
+        res.put("message", ex.getMessage());
+        return new ResponseEntity<>(res, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> handleGeneral(Exception ex) {
         Map<String, Object> res = new HashMap<>();
@@ -0,0 +1,7 @@
+package com.mediconnect.appointmentservice.exception;
+
+public class LookupTimeoutException extends RuntimeException {
+    public LookupTimeoutException(String message) {
+        super(message);
+    }
+}
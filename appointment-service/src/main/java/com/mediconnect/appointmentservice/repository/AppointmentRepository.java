@@ -1,22 +1,57 @@
 package com.mediconnect.appointmentservice.repository;
 
 import com.mediconnect.appointmentservice.entity.Appointment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface AppointmentRepository extends JpaRepository<Appointment, UUID> {
+// Listings are built from AppointmentSpecifications and read one keyset page at a time
+public interface AppointmentRepository extends JpaRepository<Appointment, UUID>, JpaSpecificationExecutor<Appointment> {
 
-    boolean existsByDoctorIdAndSlotStart(UUID doctorId, LocalDateTime slotStart);
+    // Only the slot columns are read, cancelled appointments no longer hold their slot
+    @Query("SELECT new com.mediconnect.appointmentservice.repository.BookedSlot(a.id, a.slotStart, a.slotEnd) " +
+           "FROM Appointment a " +
+           "WHERE a.doctorId = :doctorId " +
+           "AND a.slotStart BETWEEN :start AND :end " +
+           "AND a.status <> com.mediconnect.appointmentservice.enums.AppointmentStatus.CANCELLED")
+    List<BookedSlot> findBookedSlots(
+            @Param("doctorId") UUID doctorId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
 
-    List<Appointment> findByDoctorId(UUID doctorId);
+    // One set-based UPDATE for the whole range; RETURNING hands back the ids without a second query.
+    // Runs as a result-returning native query, so it needs to be called inside a read-write transaction.
+    @Query(value = "UPDATE appointments SET status = 'CANCELLED', updated_at = now() " +
+                   "WHERE doctor_id = :doctorId " +
+                   "AND slot_start >= :from AND slot_start < :to " +
+                   "AND status IN ('BOOKED', 'RESCHEDULED') " +
+                   "RETURNING id",
+           nativeQuery = true)
+    List<UUID> cancelActiveInRange(
+            @Param("doctorId") UUID doctorId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
 
-    List<Appointment> findByPatientId(UUID patientId);
-
-    List<Appointment> findByDoctorIdAndSlotStartBetween(
-            UUID doctorId,
-            LocalDateTime start,
-            LocalDateTime end);
-}
\ No newline at end of file
+    // Pulls rows from the driver in batches instead of loading the whole result, needs an open transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Appointment a " +
+           "WHERE a.doctorId = :doctorId " +
+           "AND a.slotStart >= :from AND a.slotStart < :to " +
+           "ORDER BY a.slotStart, a.id")
+    Stream<Appointment> streamByDoctorId(
+            @Param("doctorId") UUID doctorId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+}
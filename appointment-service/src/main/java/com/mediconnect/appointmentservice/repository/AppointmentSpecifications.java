@@ -0,0 +1,45 @@
+package com.mediconnect.appointmentservice.repository;
+
+import com.mediconnect.appointmentservice.entity.Appointment;
+import com.mediconnect.appointmentservice.enums.AppointmentStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Building blocks of the appointment listing queries, only the filters actually given end up in the SQL
+public final class AppointmentSpecifications {
+
+    private AppointmentSpecifications() {
+    }
+
+    public static Specification<Appointment> forDoctor(UUID doctorId) {
+        return (root, query, cb) -> cb.equal(root.get("doctorId"), doctorId);
+    }
+
+    public static Specification<Appointment> forPatient(UUID patientId) {
+        return (root, query, cb) -> cb.equal(root.get("patientId"), patientId);
+    }
+
+    public static Specification<Appointment> hasStatus(AppointmentStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Appointment> startsAtOrAfter(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("slotStart"), from);
+    }
+
+    public static Specification<Appointment> startsBefore(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThan(root.get("slotStart"), to);
+    }
+
+    // Rows strictly after (slotStart, id) in listing order. The leading slot_start >= bound
+    // lets the database start the index scan at the cursor instead of filtering from the top.
+    public static Specification<Appointment> after(LocalDateTime slotStart, UUID id) {
+        return (root, query, cb) -> cb.and(
+                cb.greaterThanOrEqualTo(root.get("slotStart"), slotStart),
+                cb.or(
+                        cb.greaterThan(root.get("slotStart"), slotStart),
+                        cb.greaterThan(root.get("id"), id)));
+    }
+}
@@ -0,0 +1,12 @@
+package com.mediconnect.appointmentservice.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Read-only view of a non-cancelled appointment, only the columns slot checks need
+public record BookedSlot(UUID id, LocalDateTime slotStart, LocalDateTime slotEnd) {
+
+    public boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        return slotStart.equals(start) || (slotStart.isBefore(end) && slotEnd.isAfter(start));
+    }
+}
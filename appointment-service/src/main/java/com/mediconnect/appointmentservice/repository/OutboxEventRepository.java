@@ -0,0 +1,17 @@
+package com.mediconnect.appointmentservice.repository;
+
+import com.mediconnect.appointmentservice.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Lowest ids first, read along the primary key; that is roughly but not strictly commit order. Rows another instance's relay is working
+    // on are skipped instead of waited for; the locks are held until the caller's transaction ends.
+    @Query(value = "SELECT * FROM appointment_outbox ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(@Param("limit") int limit);
+}
@@ -1,24 +1,71 @@
 package com.mediconnect.appointmentservice.service;
 
 import com.mediconnect.appointmentservice.DTO.requestDTO.AppointmentRequest;
+import com.mediconnect.appointmentservice.DTO.requestDTO.BatchBookingRequest;
 import com.mediconnect.appointmentservice.DTO.requestDTO.RescheduleRequest;
+import com.mediconnect.appointmentservice.DTO.requestDTO.SlotHoldRequest;
+import com.mediconnect.appointmentservice.DTO.responseDTO.AppointmentPageResponse;
 import com.mediconnect.appointmentservice.DTO.responseDTO.AppointmentResponse;
+import com.mediconnect.appointmentservice.DTO.responseDTO.BatchBookingResponse;
+import com.mediconnect.appointmentservice.DTO.responseDTO.BulkCancellationResponse;
+import com.mediconnect.appointmentservice.DTO.responseDTO.DaySlotsResponse;
+import com.mediconnect.appointmentservice.DTO.responseDTO.SlotHoldResponse;
 import com.mediconnect.appointmentservice.DTO.responseDTO.SlotResponse;
+import com.mediconnect.appointmentservice.DTO.responseDTO.SlotSearchResponse;
+import com.mediconnect.appointmentservice.enums.AppointmentStatus;
+import com.mediconnect.appointmentservice.enums.ExportFormat;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface AppointmentService {
 
     AppointmentResponse bookAppointment(AppointmentRequest request);
 
+    // Books several slots of one doctor for one patient, each slot succeeds or fails on its own
+    BatchBookingResponse bookBatch(BatchBookingRequest request);
+
+    // Reserves the slot for the patient for a short time, booking the same slot confirms it
+    SlotHoldResponse holdSlot(SlotHoldRequest request);
+
+    void releaseHold(UUID holdId);
+
     List<SlotResponse> getAvailableSlots(UUID doctorId, String date);
 
+    // Lazily computed, one element per day in [from, to]
+    Stream<DaySlotsResponse> getAvailableSlotsInRange(UUID doctorId, String from, String to);
+
+    // Earliest free slots in [start, end] across all active doctors of a specialization; doctors that
+    // could not be evaluated before the lookup deadline are listed and the result is marked incomplete
+    SlotSearchResponse searchFirstAvailableSlots(String specialization, String start, String end, int limit);
+
+    // Every appointment of the patient, ordered by (slotStart, id)
     List<AppointmentResponse> getAppointmentsByPatient(UUID patientId);
 
     List<AppointmentResponse> getAppointmentsByDoctor(UUID doctorId);
 
+    // Pages ordered by (slotStart, id); status, from and to are optional filters, cursor is null for the first page
+    AppointmentPageResponse getAppointmentsByPatient(
+            UUID patientId, AppointmentStatus status, String from, String to, String cursor, int size);
+
+    AppointmentPageResponse getAppointmentsByDoctor(
+            UUID doctorId, AppointmentStatus status, String from, String to, String cursor, int size);
+
+    // Checks the export range up front, so bad requests fail before the response starts streaming
+    void validateExportRange(String from, String to);
+
+    // Writes every appointment of the doctor with a slot in [from, to] to out, in slot order
+    void exportDoctorAppointments(UUID doctorId, String from, String to, ExportFormat format, OutputStream out)
+            throws IOException;
+
     AppointmentResponse cancelByAppointmentId(UUID id);
 
+    // Cancels every booked or rescheduled appointment of the doctor with a slot in [from, to] that has not started yet.
+    // The range may span at most a year, the longest leave doctor-service accepts.
+    BulkCancellationResponse cancelDoctorAppointmentsInRange(UUID doctorId, String from, String to);
+
     AppointmentResponse rescheduleAppointment(UUID appointmentId, RescheduleRequest request);
 }
\ No newline at end of file
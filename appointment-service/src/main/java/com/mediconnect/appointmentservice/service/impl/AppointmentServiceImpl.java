@@ -1,88 +1,447 @@
 package com.mediconnect.appointmentservice.service.impl;
 
 import com.mediconnect.appointmentservice.DTO.requestDTO.AppointmentRequest;
+import com.mediconnect.appointmentservice.DTO.requestDTO.BatchBookingRequest;
 import com.mediconnect.appointmentservice.DTO.requestDTO.RescheduleRequest;
+import com.mediconnect.appointmentservice.DTO.requestDTO.SlotHoldRequest;
+import com.mediconnect.appointmentservice.DTO.responseDTO.AppointmentPageResponse;
 import com.mediconnect.appointmentservice.DTO.responseDTO.AppointmentResponse;
 import com.mediconnect.appointmentservice.DTO.responseDTO.AvailabilityResponse;
+import com.mediconnect.appointmentservice.DTO.responseDTO.BatchBookingResponse;
+import com.mediconnect.appointmentservice.DTO.responseDTO.BatchSlotResult;
+import com.mediconnect.appointmentservice.DTO.responseDTO.BulkCancellationResponse;
+import com.mediconnect.appointmentservice.DTO.responseDTO.CalendarSnapshotResponse;
+import com.mediconnect.appointmentservice.DTO.responseDTO.DaySlotsResponse;
 import com.mediconnect.appointmentservice.DTO.responseDTO.DoctorResponse;
-import com.mediconnect.appointmentservice.DTO.responseDTO.LeaveResponse;
+import com.mediconnect.appointmentservice.DTO.responseDTO.DoctorSlotResponse;
 import com.mediconnect.appointmentservice.DTO.responseDTO.ScheduleResponse;
+import com.mediconnect.appointmentservice.DTO.responseDTO.SlotHoldResponse;
 import com.mediconnect.appointmentservice.DTO.responseDTO.SlotResponse;
+import com.mediconnect.appointmentservice.DTO.responseDTO.SlotSearchResponse;
+import com.mediconnect.appointmentservice.cache.DoctorDataCache;
+import com.mediconnect.appointmentservice.cache.SlotHoldTable;
+import com.mediconnect.appointmentservice.cache.SlotOccupancyIndex;
+import com.mediconnect.appointmentservice.cache.SlotOccupancyIndex.DayMask;
+import com.mediconnect.appointmentservice.cache.SlotTemplate;
+import com.mediconnect.appointmentservice.cache.SlotTemplateCache;
 import com.mediconnect.appointmentservice.client.DoctorClient;
+import com.mediconnect.appointmentservice.client.DoctorClientPolicy;
 import com.mediconnect.appointmentservice.entity.Appointment;
+import com.mediconnect.appointmentservice.enums.AppointmentEventType;
 import com.mediconnect.appointmentservice.enums.AppointmentStatus;
+import com.mediconnect.appointmentservice.enums.ExportFormat;
+import com.mediconnect.appointmentservice.event.OutboxWriter;
 import com.mediconnect.appointmentservice.exception.AppointmentNotFoundException;
+import com.mediconnect.appointmentservice.exception.BadRequestException;
 import com.mediconnect.appointmentservice.exception.DoctorNotAvailableException;
+import com.mediconnect.appointmentservice.exception.LookupTimeoutException;
+import com.mediconnect.appointmentservice.exception.ResourceNotFoundException;
 import com.mediconnect.appointmentservice.repository.AppointmentRepository;
+import com.mediconnect.appointmentservice.repository.AppointmentSpecifications;
+import com.mediconnect.appointmentservice.repository.BookedSlot;
 import com.mediconnect.appointmentservice.service.AppointmentService;
 
 import com.mediconnect.appointmentservice.util.ApiResponse;
+import com.mediconnect.appointmentservice.util.AppointmentCursor;
+import com.mediconnect.appointmentservice.util.AppointmentExportWriter;
+import jakarta.persistence.EntityManager;
+import com.mediconnect.appointmentservice.util.LookupExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
+import java.util.PriorityQueue;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AppointmentServiceImpl implements AppointmentService {
 
+        // Used when doctor-service has no slot settings for a day
+        private static final int DEFAULT_SLOT_MINUTES = 30;
+        private static final int DEFAULT_BUFFER_MINUTES = 0;
+        private static final int MAX_RANGE_DAYS = 31;
+        private static final int MAX_SEARCH_DAYS = 7;
+        private static final int MAX_SEARCH_RESULTS = 50;
+        private static final int MAX_PAGE_SIZE = 100;
+        private static final int MAX_EXPORT_DAYS = 366;
+        private static final int MAX_CANCEL_DAYS = 366;
+        private static final int EXPORT_FLUSH_ROWS = 500;
+        private static final int MAX_BATCH_SLOTS = 52;
+        private static final int MAX_BATCH_SPAN_DAYS = 366;
+        private static final Sort LISTING_ORDER = Sort.by("slotStart", "id");
+
         private final AppointmentRepository appointmentRepository;
         private final DoctorClient doctorClient;
+        private final DoctorClientPolicy doctorClientPolicy;
+        private final SlotOccupancyIndex occupancyIndex;
+        private final DoctorDataCache doctorDataCache;
+        private final LookupExecutor lookupExecutor;
+        private final SlotHoldTable slotHoldTable;
+        private final SlotTemplateCache slotTemplateCache;
+        private final EntityManager entityManager;
+        private final JsonMapper jsonMapper;
+        private final OutboxWriter outboxWriter;
+        private final TransactionTemplate transactionTemplate;
 
         @Override
         public AppointmentResponse bookAppointment(AppointmentRequest request) {
 
-                ApiResponse<DoctorResponse> doctorApiResponse = doctorClient.getDoctorById(request.getDoctorId());
+                UUID doctorId = request.getDoctorId();
+                LocalDateTime slotStart = request.getSlotStart();
 
-                if (doctorApiResponse == null || doctorApiResponse.getData() == null) {
-                        throw new DoctorNotAvailableException("Doctor not found!");
+                if (slotStart == null) {
+                        throw new DoctorNotAvailableException("Slot is not available");
                 }
 
-                DoctorResponse doctor = doctorApiResponse.getData();
-
-                if (!doctor.isActive()) {
-                        throw new DoctorNotAvailableException("Doctor is not active currently");
+                // Another patient is about to confirm this slot, no need to ask anyone else
+                if (slotHoldTable.isHeldByOther(doctorId, slotStart, request.getPatientId())) {
+                        throw new DoctorNotAvailableException("Slot is currently held by another patient");
                 }
 
-                // Validate slot is available (checks leave, schedule, and working hours)
-                if (!isSlotValid(request.getDoctorId(), request.getSlotStart())) {
-                        throw new DoctorNotAvailableException("Slot is not available");
-                }
+                LocalDateTime slotEnd;
 
-                boolean alreadyBooked = appointmentRepository.existsByDoctorIdAndSlotStart(
-                                request.getDoctorId(),
-                                request.getSlotStart());
+                try (LookupExecutor.Scope lookups = lookupExecutor.open()) {
 
-                if (alreadyBooked) {
-                        throw new DoctorNotAvailableException("Slot already booked!");
+                        // Doctor profile, calendar and the day's bookings do not depend on each other
+                        Supplier<DoctorResponse> doctorLookup = lookups.fork(() -> doctorDataCache.getDoctor(doctorId));
+                        Supplier<CalendarSnapshotResponse> calendarLookup = lookups.fork(() ->
+                                fetchCalendar(doctorId, slotStart.toLocalDate(), slotStart.toLocalDate()));
+                        Supplier<List<BookedSlot>> bookedLookup = lookups.fork(() -> findBookedSlotsOfDay(doctorId, slotStart));
+
+                        DoctorResponse doctor = doctorLookup.get();
+
+                        if (doctor == null) {
+                                throw new DoctorNotAvailableException("Doctor not found!");
+                        }
+
+                        if (!doctor.isActive()) {
+                                throw new DoctorNotAvailableException("Doctor is not active currently");
+                        }
+
+                        // Validate slot is available (checks leave, schedule, and working hours)
+                        SlotTemplate template = slotTemplateAt(calendarLookup.get(), doctorId, slotStart);
+
+                        if (template == null) {
+                                throw new DoctorNotAvailableException("Slot is not available");
+                        }
+
+                        // The slot length comes from the doctor's settings, not from the client
+                        slotEnd = slotStart.plusMinutes(template.slotMinutes());
+
+                        // Cheap rejection from the in-memory index, the database check below stays authoritative
+                        if (occupancyIndex.isKnownOccupied(doctorId, slotStart, slotEnd)) {
+                                throw new DoctorNotAvailableException("Slot already booked!");
+                        }
+
+                        if (bookedLookup.get().stream().anyMatch(booked -> booked.overlaps(slotStart, slotEnd))) {
+                                throw new DoctorNotAvailableException("Slot already booked!");
+                        }
                 }
 
                 Appointment appointment = Appointment.builder()
                                 .doctorId(request.getDoctorId())
                                 .patientId(request.getPatientId())
-                                .slotStart(request.getSlotStart())
-                                .slotEnd(request.getSlotEnd())
+                                .slotStart(slotStart)
+                                .slotEnd(slotEnd)
                                 .consultationType(request.getConsultationType())
                                 .status(AppointmentStatus.BOOKED)
                                 .reason(request.getReason())
                                 .paid(false)
                                 .build();
 
-                Appointment saved = appointmentRepository.save(appointment);
+                Appointment saved = saveSlot(appointment, AppointmentEventType.BOOKED, null);
+                occupancyIndex.occupy(saved.getDoctorId(), saved.getSlotStart(), saved.getSlotEnd());
+                slotHoldTable.confirm(saved.getDoctorId(), saved.getSlotStart(), saved.getPatientId());
 
                 return mapToResponse(saved);
         }
 
+        @Override
+        public BatchBookingResponse bookBatch(BatchBookingRequest request) {
+
+                if (request.getDoctorId() == null || request.getPatientId() == null) {
+                        throw new BadRequestException("doctorId and patientId are required");
+                }
+
+                UUID doctorId = request.getDoctorId();
+                List<LocalDateTime> slotStarts = expandSlotStarts(request);
+                LocalDate firstDate = slotStarts.getFirst().toLocalDate();
+                LocalDate lastDate = slotStarts.getLast().toLocalDate();
+
+                DoctorResponse doctor;
+                CalendarSnapshotResponse calendar;
+                List<BookedSlot> booked;
+
+                // Doctor, one calendar snapshot and the bookings of the whole span, instead of one round per slot
+                try (LookupExecutor.Scope lookups = lookupExecutor.open()) {
+
+                        Supplier<DoctorResponse> doctorLookup = lookups.fork(() -> doctorDataCache.getDoctor(doctorId));
+                        Supplier<CalendarSnapshotResponse> calendarLookup = lookups.fork(() ->
+                                fetchCalendar(doctorId, firstDate, lastDate));
+                        Supplier<List<BookedSlot>> bookedLookup = lookups.fork(() ->
+                                appointmentRepository.findBookedSlots(doctorId, firstDate.atStartOfDay(), lastDate.atTime(LocalTime.MAX)));
+
+                        doctor = doctorLookup.get();
+
+                        if (doctor == null) {
+                                throw new DoctorNotAvailableException("Doctor not found!");
+                        }
+
+                        if (!doctor.isActive()) {
+                                throw new DoctorNotAvailableException("Doctor is not active currently");
+                        }
+
+                        calendar = calendarLookup.get();
+                        booked = new ArrayList<>(bookedLookup.get());
+                }
+
+                Map<LocalDateTime, BatchSlotResult> results = new LinkedHashMap<>();
+                List<Appointment> accepted = new ArrayList<>();
+
+                for (LocalDateTime slotStart : slotStarts) {
+
+                        SlotTemplate template = slotTemplateAt(calendar, doctorId, slotStart);
+
+                        if (template == null) {
+                                results.put(slotStart, failedSlot(slotStart, null, "Slot is not available"));
+                                continue;
+                        }
+
+                        LocalDateTime slotEnd = slotStart.plusMinutes(template.slotMinutes());
+
+                        if (slotHoldTable.isHeldByOther(doctorId, slotStart, request.getPatientId())) {
+                                results.put(slotStart, failedSlot(slotStart, slotEnd, "Slot is currently held by another patient"));
+                                continue;
+                        }
+
+                        if (booked.stream().anyMatch(slot -> slot.overlaps(slotStart, slotEnd))) {
+                                results.put(slotStart, failedSlot(slotStart, slotEnd, "Slot already booked!"));
+                                continue;
+                        }
+
+                        // Later slots of the same batch must not overlap this one either
+                        booked.add(new BookedSlot(null, slotStart, slotEnd));
+
+                        accepted.add(Appointment.builder()
+                                .doctorId(doctorId)
+                                .patientId(request.getPatientId())
+                                .slotStart(slotStart)
+                                .slotEnd(slotEnd)
+                                .consultationType(request.getConsultationType())
+                                .status(AppointmentStatus.BOOKED)
+                                .reason(request.getReason())
+                                .paid(false)
+                                .build());
+                }
+
+                for (Appointment saved : saveBatch(accepted, results)) {
+                        occupancyIndex.occupy(saved.getDoctorId(), saved.getSlotStart(), saved.getSlotEnd());
+                        slotHoldTable.confirm(saved.getDoctorId(), saved.getSlotStart(), saved.getPatientId());
+
+                        results.put(saved.getSlotStart(), BatchSlotResult.builder()
+                                .slotStart(saved.getSlotStart())
+                                .slotEnd(saved.getSlotEnd())
+                                .booked(true)
+                                .appointmentId(saved.getId())
+                                .build());
+                }
+
+                List<BatchSlotResult> ordered = slotStarts.stream().map(results::get).toList();
+                int bookedCount = (int) ordered.stream().filter(BatchSlotResult::isBooked).count();
+
+                log.info("Batch booking for doctor {}: {} of {} slots booked", doctorId, bookedCount, ordered.size());
+
+                return BatchBookingResponse.builder()
+                        .requested(ordered.size())
+                        .booked(bookedCount)
+                        .failed(ordered.size() - bookedCount)
+                        .results(ordered)
+                        .build();
+        }
+
+        // Explicit slot starts win over the recurrence, duplicates are dropped and the result is sorted
+        private List<LocalDateTime> expandSlotStarts(BatchBookingRequest request) {
+
+                List<LocalDateTime> slotStarts;
+
+                if (request.getSlotStarts() != null && !request.getSlotStarts().isEmpty()) {
+                        slotStarts = request.getSlotStarts();
+                } else {
+                        if (request.getFirstSlotStart() == null || request.getOccurrences() == null) {
+                                throw new BadRequestException("Either slotStarts or firstSlotStart and occurrences are required");
+                        }
+
+                        int intervalDays = request.getIntervalDays() == null ? 7 : request.getIntervalDays();
+
+                        if (intervalDays < 1) {
+                                throw new BadRequestException("Interval must be at least one day");
+                        }
+
+                        if (request.getOccurrences() < 1 || request.getOccurrences() > MAX_BATCH_SLOTS) {
+                                throw new BadRequestException("Occurrences must be between 1 and " + MAX_BATCH_SLOTS);
+                        }
+
+                        slotStarts = IntStream.range(0, request.getOccurrences())
+                                .mapToObj(i -> request.getFirstSlotStart().plusDays((long) i * intervalDays))
+                                .toList();
+                }
+
+                List<LocalDateTime> distinct = slotStarts.stream()
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .sorted()
+                        .toList();
+
+                if (distinct.isEmpty() || distinct.size() > MAX_BATCH_SLOTS) {
+                        throw new BadRequestException("A batch must contain between 1 and " + MAX_BATCH_SLOTS + " slots");
+                }
+
+                if (ChronoUnit.DAYS.between(distinct.getFirst().toLocalDate(), distinct.getLast().toLocalDate()) >= MAX_BATCH_SPAN_DAYS) {
+                        throw new BadRequestException("A batch cannot span more than " + MAX_BATCH_SPAN_DAYS + " days");
+                }
+
+                return distinct;
+        }
+
+        // All accepted slots go to the database as one JDBC batch. If a concurrent booking took one of
+        // them in the meantime the whole batch rolls back, and the slots are retried one by one so the
+        // others still succeed.
+        private List<Appointment> saveBatch(List<Appointment> appointments, Map<LocalDateTime, BatchSlotResult> results) {
+
+                if (appointments.isEmpty()) {
+                        return List.of();
+                }
+
+                try {
+                        return transactionTemplate.execute(status -> {
+                                List<Appointment> saved = appointmentRepository.saveAllAndFlush(appointments);
+                                outboxWriter.appendAll(AppointmentEventType.BOOKED, saved);
+                                return saved;
+                        });
+                } catch (DataIntegrityViolationException e) {
+                        log.info("Batch insert of {} appointments conflicted, retrying slot by slot", appointments.size());
+                }
+
+                List<Appointment> saved = new ArrayList<>();
+
+                for (Appointment appointment : appointments) {
+                        // The id handed out by the rolled back batch was never stored
+                        appointment.setId(null);
+                        try {
+                                saved.add(saveSlot(appointment, AppointmentEventType.BOOKED, null));
+                        } catch (DoctorNotAvailableException e) {
+                                results.put(appointment.getSlotStart(),
+                                        failedSlot(appointment.getSlotStart(), appointment.getSlotEnd(), e.getMessage()));
+                        }
+                }
+
+                return saved;
+        }
+
+        private BatchSlotResult failedSlot(LocalDateTime slotStart, LocalDateTime slotEnd, String message) {
+                return BatchSlotResult.builder()
+                        .slotStart(slotStart)
+                        .slotEnd(slotEnd)
+                        .booked(false)
+                        .message(message)
+                        .build();
+        }
+
+        @Override
+        public SlotHoldResponse holdSlot(SlotHoldRequest request) {
+
+                if (request.getDoctorId() == null || request.getPatientId() == null || request.getSlotStart() == null) {
+                        throw new BadRequestException("doctorId, patientId and slotStart are required");
+                }
+
+                UUID doctorId = request.getDoctorId();
+                LocalDateTime slotStart = request.getSlotStart();
+                LocalDate date = slotStart.toLocalDate();
+
+                SlotTemplate template = slotTemplateAt(fetchCalendar(doctorId, date, date), doctorId, slotStart);
+
+                if (template == null) {
+                        throw new DoctorNotAvailableException("Slot is not available");
+                }
+
+                LocalDateTime slotEnd = slotStart.plusMinutes(template.slotMinutes());
+
+                // The index only knows what this instance loaded, a cold or expired day must not grant a booked slot
+                if (occupancyIndex.isKnownOccupied(doctorId, slotStart, slotEnd)
+                                || findBookedSlotsOfDay(doctorId, slotStart).stream().anyMatch(booked -> booked.overlaps(slotStart, slotEnd))) {
+                        throw new DoctorNotAvailableException("Slot already booked!");
+                }
+
+                SlotHoldTable.SlotHold hold = slotHoldTable.tryHold(doctorId, slotStart, request.getPatientId());
+
+                if (hold == null) {
+                        throw new DoctorNotAvailableException("Slot is currently held by another patient");
+                }
+
+                return SlotHoldResponse.builder()
+                        .holdId(hold.holdId())
+                        .doctorId(hold.doctorId())
+                        .patientId(hold.patientId())
+                        .slotStart(hold.slotStart())
+                        .slotEnd(slotEnd)
+                        .expiresAt(hold.expiresAt())
+                        .build();
+        }
+
+        @Override
+        public void releaseHold(UUID holdId) {
+                if (!slotHoldTable.release(holdId)) {
+                        throw new ResourceNotFoundException("No active hold found with id: " + holdId);
+                }
+        }
+
+        // One indexed read of the doctor's non-cancelled bookings on the day of the slot
+        private List<BookedSlot> findBookedSlotsOfDay(UUID doctorId, LocalDateTime slotStart) {
+                LocalDate date = slotStart.toLocalDate();
+                return appointmentRepository.findBookedSlots(doctorId, date.atStartOfDay(), date.atTime(LocalTime.MAX));
+        }
+
+        // The exclusion constraint rejects an active booking overlapping another one of the doctor,
+        // which happens when another instance wins the race between our check and insert.
+        // The outbox event is written in the same transaction, so it only exists if the slot was taken.
+        private Appointment saveSlot(Appointment appointment, AppointmentEventType eventType, BookedSlot previousSlot) {
+                try {
+                        return transactionTemplate.execute(status -> {
+                                Appointment saved = appointmentRepository.saveAndFlush(appointment);
+                                outboxWriter.append(eventType, saved, previousSlot);
+                                return saved;
+                        });
+                } catch (DataIntegrityViolationException e) {
+                        log.info("Slot {} of doctor {} was booked concurrently", appointment.getSlotStart(), appointment.getDoctorId());
+                        throw new DoctorNotAvailableException("Slot already booked!");
+                }
+        }
+
         private AppointmentResponse mapToResponse(Appointment appointment) {
                 return AppointmentResponse.builder()
                                 .appointmentId(appointment.getId())
@@ -104,42 +463,43 @@ public class AppointmentServiceImpl implements AppointmentService {
 
                 LocalDate selectedDate = LocalDate.parse(date);
 
-                // Check if doctor is on leave
-                if (!isDoctorAvailable(doctorId, selectedDate)) {
-                        log.info("Doctor {} is on leave on {}", doctorId, selectedDate);
-                        throw new RuntimeException("Doctor is not available on " + selectedDate + ". The doctor is on leave.");
+                CalendarSnapshotResponse calendar;
+                DayMask occupied;
+
+                try (LookupExecutor.Scope lookups = lookupExecutor.open()) {
+
+                        // One hop for leaves, schedule overrides and weekly hours of this day,
+                        // the booked slots of the day are read alongside it
+                        Supplier<CalendarSnapshotResponse> calendarLookup = lookups.fork(() ->
+                                fetchCalendar(doctorId, selectedDate, selectedDate));
+                        Supplier<DayMask> occupancyLookup = lookups.fork(() ->
+                                occupancyIndex.occupancy(doctorId, selectedDate));
+
+                        calendar = calendarLookup.get();
+
+                        // Check if doctor is on leave
+                        if (!isDoctorAvailable(calendar, doctorId, selectedDate)) {
+                                log.info("Doctor {} is on leave on {}", doctorId, selectedDate);
+                                throw new RuntimeException("Doctor is not available on " + selectedDate + ". The doctor is on leave.");
+                        }
+
+                        occupied = occupancyLookup.get();
                 }
 
                 // Get effective working hours
-                TimeRange timeRange = getEffectiveWorkingHours(doctorId, selectedDate);
+                TimeRange timeRange = getEffectiveWorkingHours(calendar, doctorId, selectedDate);
 
                 if (timeRange == null) {
                         log.info("Doctor {} has no working hours set for {}", doctorId, selectedDate);
                         throw new RuntimeException("Doctor is not available on " + selectedDate + ". No working hours configured for this day.");
                 }
 
-                // Generate time slots
-                List<SlotResponse> generatedSlots = generateTimeSlots(
-                        selectedDate,
-                        timeRange.startTime,
-                        timeRange.endTime,
-                        30
-                );
-
-                // Filter out booked slots
-                Set<LocalDateTime> bookedStartTimes = getBookedSlots(
-                        doctorId,
-                        selectedDate,
-                        timeRange.startTime,
-                        timeRange.endTime
-                );
-
-                List<SlotResponse> availableSlots = generatedSlots.stream()
-                        .filter(slot -> !bookedStartTimes.contains(slot.getSlotStart()))
-                        .toList();
+                // Generate only the slots that are not booked
+                SlotTemplate template = templateFor(timeRange);
+                List<SlotResponse> availableSlots = template.freeSlots(selectedDate, occupied);
 
                 // If all slots are booked, provide a clear message
-                if (availableSlots.isEmpty() && !generatedSlots.isEmpty()) {
+                if (availableSlots.isEmpty() && template.size() > 0) {
                         log.info("All slots are booked for doctor {} on {}", doctorId, selectedDate);
                         throw new RuntimeException("All appointment slots are fully booked for " + selectedDate + ". Please try another date.");
                 }
@@ -147,192 +507,577 @@ public class AppointmentServiceImpl implements AppointmentService {
                 return availableSlots;
         }
 
-        private boolean isDoctorAvailable(UUID doctorId, LocalDate selectedDate) {
+        @Override
+        public Stream<DaySlotsResponse> getAvailableSlotsInRange(UUID doctorId, String from, String to) {
 
-                try {
-                        ApiResponse<List<LeaveResponse>> leavesResponse = doctorClient.getLeaves(doctorId);
-
-                        if (leavesResponse != null && leavesResponse.getData() != null) {
-                                boolean isOnLeave = leavesResponse.getData().stream()
-                                        .anyMatch(leave ->
-                                                !selectedDate.isBefore(leave.getStartDate()) &&
-                                                        !selectedDate.isAfter(leave.getEndDate())
-                                        );
-
-                                if (isOnLeave) {
-                                        log.info("Doctor {} is on leave on {}", doctorId, selectedDate);
-                                        return false;
-                                }
-                        }
-                } catch (Exception e) {
-                        log.warn("Failed to fetch leaves for doctor {}: {}", doctorId, e.getMessage());
+                log.info("Upcoming range request: {}", doctorId + " from " + from + " to " + to);
+
+                LocalDate fromDate = LocalDate.parse(from);
+                LocalDate toDate = LocalDate.parse(to);
+
+                if (toDate.isBefore(fromDate)) {
+                        throw new BadRequestException("From date must be before or equal to to date");
                 }
 
-                return true;
+                if (ChronoUnit.DAYS.between(fromDate, toDate) >= MAX_RANGE_DAYS) {
+                        throw new BadRequestException("Date range cannot exceed " + MAX_RANGE_DAYS + " days");
+                }
+
+                // Calendar and bookings are loaded once for the whole range
+                CalendarSnapshotResponse calendar = fetchCalendar(doctorId, fromDate, toDate);
+                occupancyIndex.preload(doctorId, fromDate, toDate);
+
+                // Each day is computed only when the caller pulls it
+                return fromDate.datesUntil(toDate.plusDays(1))
+                        .map(date -> buildDaySlots(
+                                calendar,
+                                doctorId,
+                                date,
+                                occupancyIndex.occupancy(doctorId, date)));
         }
 
-        private TimeRange getEffectiveWorkingHours(UUID doctorId, LocalDate selectedDate) {
+        @Override
+        public SlotSearchResponse searchFirstAvailableSlots(
+                String specialization,
+                String start,
+                String end,
+                int limit) {
 
-                try {
-                        ApiResponse<List<ScheduleResponse>> schedulesResponse = doctorClient.getSchedules(doctorId);
+                LocalDateTime windowStart = LocalDateTime.parse(start);
+                LocalDateTime windowEnd = LocalDateTime.parse(end);
+
+                if (!windowStart.isBefore(windowEnd)) {
+                        throw new BadRequestException("Start must be before end");
+                }
+
+                if (ChronoUnit.DAYS.between(windowStart.toLocalDate(), windowEnd.toLocalDate()) >= MAX_SEARCH_DAYS) {
+                        throw new BadRequestException("Search window cannot exceed " + MAX_SEARCH_DAYS + " days");
+                }
+
+                if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+                        throw new BadRequestException("Limit must be between 1 and " + MAX_SEARCH_RESULTS);
+                }
 
-                        if (schedulesResponse != null && schedulesResponse.getData() != null) {
-                                Optional<ScheduleResponse> scheduleOpt = schedulesResponse.getData().stream()
-                                        .filter(s -> s.getScheduleDate().equals(selectedDate))
-                                        .findFirst();
+                ApiResponse<List<DoctorResponse>> doctorsResponse = doctorClientPolicy.call(DoctorClientPolicy.Operation.SEARCH,
+                        () -> doctorClient.getActiveDoctorsBySpecialization(specialization));
 
-                                if (scheduleOpt.isPresent()) {
-                                        ScheduleResponse schedule = scheduleOpt.get();
+                if (doctorsResponse == null || doctorsResponse.getData() == null || doctorsResponse.getData().isEmpty()) {
+                        log.info("No active doctors found for specialization {}", specialization);
+                        return SlotSearchResponse.builder()
+                                .slots(List.of())
+                                .complete(true)
+                                .skippedDoctorIds(List.of())
+                                .build();
+                }
 
-                                        if (!schedule.isWorking()) {
-                                                log.info("Doctor {} not working on {} (schedule override)", doctorId, selectedDate);
-                                                return null;
+                List<DoctorResponse> doctors = doctorsResponse.getData();
+                EarliestSlots earliest = new EarliestSlots(limit);
+
+                // Each doctor is evaluated on its own virtual thread, all of them share the result set. Doctors
+                // not done by the lookup deadline are left out and abandoned, never interrupted: an interrupt
+                // would close the pooled connection of a running occupancy query. Their calendar calls end on
+                // their own through the DoctorClientPolicy timeouts. Left-out doctors are reported, since one of
+                // them may have had an earlier slot than those returned.
+                List<UUID> skipped = new ArrayList<>();
+                try (LookupExecutor.Scope lookups = lookupExecutor.open()) {
+
+                        List<Supplier<Boolean>> searches = doctors.stream()
+                                .map(doctor -> lookups.fork(() -> {
+                                        try {
+                                                collectEarliestSlots(doctor, windowStart, windowEnd, earliest);
+                                                return true;
+                                        } catch (Exception e) {
+                                                log.warn("Skipping doctor {} in slot search: {}", doctor.getDoctorId(), e.getMessage());
+                                                return false;
                                         }
+                                }))
+                                .toList();
 
-                                        log.info("Using schedule override for doctor {} on {}", doctorId, selectedDate);
-                                        return new TimeRange(schedule.getStartTime(), schedule.getEndTime());
+                        for (int i = 0; i < searches.size(); i++) {
+                                boolean evaluated;
+                                try {
+                                        evaluated = searches.get(i).get();
+                                } catch (LookupTimeoutException e) {
+                                        log.debug("Slot search for {} left out a doctor: {}", specialization, e.getMessage());
+                                        evaluated = false;
+                                }
+                                if (!evaluated) {
+                                        skipped.add(doctors.get(i).getDoctorId());
                                 }
                         }
-                } catch (Exception e) {
-                        log.warn("Failed to fetch schedules for doctor {}: {}", doctorId, e.getMessage());
                 }
 
-                return getWeeklyAvailabilityHours(doctorId, selectedDate);
+                log.info("Slot search for {} evaluated {} of {} doctors",
+                        specialization, doctors.size() - skipped.size(), doctors.size());
+
+                return SlotSearchResponse.builder()
+                        .slots(earliest.sorted())
+                        .complete(skipped.isEmpty())
+                        .skippedDoctorIds(skipped)
+                        .build();
         }
 
-        private TimeRange getWeeklyAvailabilityHours(UUID doctorId, LocalDate selectedDate) {
+        // Offers one doctor's free slots in ascending order and stops as soon as they can no longer make the cut
+        private void collectEarliestSlots(
+                DoctorResponse doctor,
+                LocalDateTime windowStart,
+                LocalDateTime windowEnd,
+                EarliestSlots earliest) {
 
-                java.time.DayOfWeek javaDay = selectedDate.getDayOfWeek();
+                UUID doctorId = doctor.getDoctorId();
+                LocalDate fromDate = windowStart.toLocalDate();
+                LocalDate toDate = windowEnd.toLocalDate();
 
-                try {
-                        ApiResponse<List<AvailabilityResponse>> response = doctorClient.getAvailability(doctorId);
+                CalendarSnapshotResponse calendar = fetchCalendar(doctorId, fromDate, toDate);
+                occupancyIndex.preload(doctorId, fromDate, toDate);
 
-                        if (response == null || response.getData() == null) {
-                                log.warn("No availability data for doctor {}", doctorId);
-                                return null;
-                        }
+                for (LocalDate date = fromDate; !date.isAfter(toDate); date = date.plusDays(1)) {
 
-                        Optional<AvailabilityResponse> availabilityOpt = response.getData().stream()
-                                .filter(a -> a.getDayOfWeek().name().equals(javaDay.name()))
-                                .findFirst();
+                        if (!earliest.canAccept(date.atStartOfDay())) {
+                                return;
+                        }
 
-                        if (availabilityOpt.isEmpty()) {
-                                log.info("Doctor {} not available on {}", doctorId, javaDay);
-                                return null;
+                        if (!isDoctorAvailable(calendar, doctorId, date)) {
+                                continue;
                         }
 
-                        AvailabilityResponse availability = availabilityOpt.get();
+                        TimeRange timeRange = getEffectiveWorkingHours(calendar, doctorId, date);
 
-                        if (!availability.isAvailable()) {
-                                log.info("Doctor {} marked unavailable on {}", doctorId, javaDay);
-                                return null;
+                        if (timeRange == null) {
+                                continue;
                         }
 
-                        return new TimeRange(availability.getStartTime(), availability.getEndTime());
+                        DayMask occupied = occupancyIndex.occupancy(doctorId, date);
 
-                } catch (Exception e) {
-                        log.error("Error fetching weekly availability for doctor {}: {}", doctorId, e.getMessage());
-                        return null;
+                        for (SlotResponse slot : templateFor(timeRange).freeSlots(date, occupied)) {
+
+                                if (slot.getSlotStart().isBefore(windowStart) || slot.getSlotEnd().isAfter(windowEnd)) {
+                                        continue;
+                                }
+
+                                boolean accepted = earliest.offer(DoctorSlotResponse.builder()
+                                        .doctorId(doctorId)
+                                        .primarySpecialization(doctor.getPrimarySpecialization())
+                                        .slotStart(slot.getSlotStart())
+                                        .slotEnd(slot.getSlotEnd())
+                                        .build());
+
+                                if (!accepted) {
+                                        return;
+                                }
+                        }
                 }
         }
 
-        private List<SlotResponse> generateTimeSlots(
+        private DaySlotsResponse buildDaySlots(
+                CalendarSnapshotResponse calendar,
+                UUID doctorId,
                 LocalDate date,
-                LocalTime startTime,
-                LocalTime endTime,
-                int slotMinutes) {
+                DayMask occupied) {
 
-                List<SlotResponse> slots = new ArrayList<>();
+                if (!isDoctorAvailable(calendar, doctorId, date)) {
+                        return unavailableDay(date, "The doctor is on leave.");
+                }
 
-                LocalDateTime slotStart = LocalDateTime.of(date, startTime);
-                LocalDateTime slotEnd = slotStart.plusMinutes(slotMinutes);
-                LocalDateTime dayEnd = LocalDateTime.of(date, endTime);
+                TimeRange timeRange = getEffectiveWorkingHours(calendar, doctorId, date);
 
-                while (!slotEnd.isAfter(dayEnd)) {
-                        slots.add(SlotResponse.builder()
-                                .slotStart(slotStart)
-                                .slotEnd(slotEnd)
-                                .build());
+                if (timeRange == null) {
+                        return unavailableDay(date, "No working hours configured for this day.");
+                }
 
-                        slotStart = slotStart.plusMinutes(slotMinutes);
-                        slotEnd = slotEnd.plusMinutes(slotMinutes);
+                List<SlotResponse> availableSlots = templateFor(timeRange).freeSlots(date, occupied);
+
+                if (availableSlots.isEmpty()) {
+                        return unavailableDay(date, "All appointment slots are fully booked.");
                 }
 
-                return slots;
+                return DaySlotsResponse.builder()
+                        .date(date)
+                        .available(true)
+                        .slots(availableSlots)
+                        .build();
         }
 
-        private Set<LocalDateTime> getBookedSlots(
-                UUID doctorId,
-                LocalDate date,
-                LocalTime startTime,
-                LocalTime endTime) {
+        private DaySlotsResponse unavailableDay(LocalDate date, String message) {
+                return DaySlotsResponse.builder()
+                        .date(date)
+                        .available(false)
+                        .message(message)
+                        .slots(List.of())
+                        .build();
+        }
+
+        // A failed lookup is not the same as a doctor without calendar data: it surfaces as
+        // DoctorServiceUnavailableException (503) once no last known calendar is left to answer from
+        private CalendarSnapshotResponse fetchCalendar(UUID doctorId, LocalDate from, LocalDate to) {
 
-                List<Appointment> bookedAppointments = appointmentRepository.findByDoctorIdAndSlotStartBetween(
-                        doctorId,
-                        LocalDateTime.of(date, startTime),
-                        LocalDateTime.of(date, endTime)
-                );
+                CalendarSnapshotResponse calendar = doctorDataCache.getCalendarSnapshot(doctorId, from, to);
+
+                if (calendar == null) {
+                        log.warn("No calendar data for doctor {}", doctorId);
+                }
 
-                return bookedAppointments.stream()
-                        .map(Appointment::getSlotStart)
-                        .collect(Collectors.toSet());
+                return calendar;
         }
 
-        private boolean isSlotValid(UUID doctorId, LocalDateTime slotStart) {
-                LocalDate date = slotStart.toLocalDate();
-                String dateString = date.toString();
+        private boolean isDoctorAvailable(CalendarSnapshotResponse calendar, UUID doctorId, LocalDate selectedDate) {
 
-                try {
-                        List<SlotResponse> availableSlots = getAvailableSlots(doctorId, dateString);
+                if (calendar == null || calendar.getLeaves() == null) {
+                        return true;
+                }
 
-                        return availableSlots.stream()
-                                .anyMatch(slot -> slot.getSlotStart().equals(slotStart));
+                boolean isOnLeave = calendar.getLeaves().stream()
+                        .anyMatch(leave ->
+                                !selectedDate.isBefore(leave.getStartDate()) &&
+                                        !selectedDate.isAfter(leave.getEndDate())
+                        );
 
-                } catch (Exception e) {
-                        log.error("Error validating slot for doctor {}: {}", doctorId, e.getMessage());
+                if (isOnLeave) {
+                        log.info("Doctor {} is on leave on {}", doctorId, selectedDate);
                         return false;
                 }
+
+                return true;
+        }
+
+        private TimeRange getEffectiveWorkingHours(CalendarSnapshotResponse calendar, UUID doctorId, LocalDate selectedDate) {
+
+                if (calendar != null && calendar.getSchedules() != null) {
+                        Optional<ScheduleResponse> scheduleOpt = calendar.getSchedules().stream()
+                                .filter(s -> s.getScheduleDate().equals(selectedDate))
+                                .findFirst();
+
+                        if (scheduleOpt.isPresent()) {
+                                ScheduleResponse schedule = scheduleOpt.get();
+
+                                if (!schedule.isWorking()) {
+                                        log.info("Doctor {} not working on {} (schedule override)", doctorId, selectedDate);
+                                        return null;
+                                }
+
+                                log.info("Using schedule override for doctor {} on {}", doctorId, selectedDate);
+                                // Overrides only move the hours, slot settings stay those of the weekday
+                                return new TimeRange(
+                                        schedule.getStartTime(),
+                                        schedule.getEndTime(),
+                                        findWeeklyAvailability(calendar, selectedDate).orElse(null));
+                        }
+                }
+
+                return getWeeklyAvailabilityHours(calendar, doctorId, selectedDate);
+        }
+
+        private TimeRange getWeeklyAvailabilityHours(CalendarSnapshotResponse calendar, UUID doctorId, LocalDate selectedDate) {
+
+                java.time.DayOfWeek javaDay = selectedDate.getDayOfWeek();
+
+                if (calendar == null || calendar.getAvailability() == null) {
+                        log.warn("No availability data for doctor {}", doctorId);
+                        return null;
+                }
+
+                Optional<AvailabilityResponse> availabilityOpt = findWeeklyAvailability(calendar, selectedDate);
+
+                if (availabilityOpt.isEmpty()) {
+                        log.info("Doctor {} not available on {}", doctorId, javaDay);
+                        return null;
+                }
+
+                AvailabilityResponse availability = availabilityOpt.get();
+
+                if (!availability.isAvailable()) {
+                        log.info("Doctor {} marked unavailable on {}", doctorId, javaDay);
+                        return null;
+                }
+
+                return new TimeRange(availability.getStartTime(), availability.getEndTime(), availability);
+        }
+
+        private Optional<AvailabilityResponse> findWeeklyAvailability(CalendarSnapshotResponse calendar, LocalDate date) {
+
+                if (calendar == null || calendar.getAvailability() == null) {
+                        return Optional.empty();
+                }
+
+                return calendar.getAvailability().stream()
+                        .filter(a -> a.getDayOfWeek().name().equals(date.getDayOfWeek().name()))
+                        .findFirst();
+        }
+
+        private SlotTemplate templateFor(TimeRange timeRange) {
+                return slotTemplateCache.template(
+                        timeRange.startTime,
+                        timeRange.endTime,
+                        timeRange.slotMinutes,
+                        timeRange.bufferMinutes);
+        }
+
+        // Checks a single slot against leave, schedule override and weekly hours without generating
+        // the whole day's slot list. Returns the day's template, or null when the slot is not offered.
+        // Booking conflicts are checked by the caller.
+        private SlotTemplate slotTemplateAt(CalendarSnapshotResponse calendar, UUID doctorId, LocalDateTime slotStart) {
+
+                LocalDate date = slotStart.toLocalDate();
+
+                if (!isDoctorAvailable(calendar, doctorId, date)) {
+                        return null;
+                }
+
+                TimeRange timeRange = getEffectiveWorkingHours(calendar, doctorId, date);
+
+                if (timeRange == null) {
+                        return null;
+                }
+
+                SlotTemplate template = templateFor(timeRange);
+                return template.contains(slotStart.toLocalTime()) ? template : null;
+        }
+
+        // Bounded set of the N earliest slots seen so far, shared by the search threads
+        private static class EarliestSlots {
+                private final int limit;
+                private final PriorityQueue<DoctorSlotResponse> latestFirst = new PriorityQueue<>(
+                        Comparator.comparing(DoctorSlotResponse::getSlotStart).reversed());
+
+                EarliestSlots(int limit) {
+                        this.limit = limit;
+                }
+
+                synchronized boolean canAccept(LocalDateTime slotStart) {
+                        return latestFirst.size() < limit || slotStart.isBefore(latestFirst.peek().getSlotStart());
+                }
+
+                synchronized boolean offer(DoctorSlotResponse slot) {
+                        if (!canAccept(slot.getSlotStart())) {
+                                return false;
+                        }
+                        latestFirst.add(slot);
+                        if (latestFirst.size() > limit) {
+                                latestFirst.poll();
+                        }
+                        return true;
+                }
+
+                synchronized List<DoctorSlotResponse> sorted() {
+                        return latestFirst.stream()
+                                .sorted(Comparator.comparing(DoctorSlotResponse::getSlotStart))
+                                .toList();
+                }
         }
 
         private static class TimeRange {
                 LocalTime startTime;
                 LocalTime endTime;
+                int slotMinutes;
+                int bufferMinutes;
 
-                TimeRange(LocalTime startTime, LocalTime endTime) {
+                TimeRange(LocalTime startTime, LocalTime endTime, AvailabilityResponse settings) {
                         this.startTime = startTime;
                         this.endTime = endTime;
+                        this.slotMinutes = settings != null && settings.getSlotMinutes() != null && settings.getSlotMinutes() > 0
+                                ? settings.getSlotMinutes()
+                                : DEFAULT_SLOT_MINUTES;
+                        this.bufferMinutes = settings != null && settings.getBufferMinutes() != null && settings.getBufferMinutes() >= 0
+                                ? settings.getBufferMinutes()
+                                : DEFAULT_BUFFER_MINUTES;
                 }
         }
 
         @Override
         public List<AppointmentResponse> getAppointmentsByPatient(UUID patientId) {
-                List<Appointment> appointments = appointmentRepository.findByPatientId(patientId);
-                return appointments.stream()
+                return appointmentRepository.findAll(AppointmentSpecifications.forPatient(patientId), LISTING_ORDER).stream()
                                 .map(this::mapToResponse)
                                 .toList();
         }
 
         @Override
         public List<AppointmentResponse> getAppointmentsByDoctor(UUID doctorId) {
-                List<Appointment> appointments = appointmentRepository.findByDoctorId(doctorId);
-                return appointments.stream()
+                return appointmentRepository.findAll(AppointmentSpecifications.forDoctor(doctorId), LISTING_ORDER).stream()
                                 .map(this::mapToResponse)
                                 .toList();
         }
 
         @Override
+        public AppointmentPageResponse getAppointmentsByPatient(
+                UUID patientId, AppointmentStatus status, String from, String to, String cursor, int size) {
+                return findPage(AppointmentSpecifications.forPatient(patientId), status, from, to, cursor, size);
+        }
+
+        @Override
+        public AppointmentPageResponse getAppointmentsByDoctor(
+                UUID doctorId, AppointmentStatus status, String from, String to, String cursor, int size) {
+                return findPage(AppointmentSpecifications.forDoctor(doctorId), status, from, to, cursor, size);
+        }
+
+        // Reads one row more than asked for to know whether another page exists, never counts
+        private AppointmentPageResponse findPage(
+                Specification<Appointment> owner,
+                AppointmentStatus status,
+                String from,
+                String to,
+                String cursor,
+                int size) {
+
+                if (size < 1 || size > MAX_PAGE_SIZE) {
+                        throw new BadRequestException("Size must be between 1 and " + MAX_PAGE_SIZE);
+                }
+
+                Specification<Appointment> spec = owner;
+
+                if (status != null) {
+                        spec = spec.and(AppointmentSpecifications.hasStatus(status));
+                }
+                if (from != null) {
+                        spec = spec.and(AppointmentSpecifications.startsAtOrAfter(LocalDate.parse(from).atStartOfDay()));
+                }
+                if (to != null) {
+                        spec = spec.and(AppointmentSpecifications.startsBefore(LocalDate.parse(to).plusDays(1).atStartOfDay()));
+                }
+                if (cursor != null) {
+                        AppointmentCursor position = AppointmentCursor.decode(cursor);
+                        spec = spec.and(AppointmentSpecifications.after(position.slotStart(), position.id()));
+                }
+
+                List<Appointment> rows = appointmentRepository.findBy(spec, query -> query
+                        .sortBy(LISTING_ORDER)
+                        .limit(size + 1)
+                        .all());
+
+                boolean hasMore = rows.size() > size;
+                List<Appointment> page = hasMore ? rows.subList(0, size) : rows;
+
+                String nextCursor = null;
+                if (hasMore) {
+                        Appointment last = page.getLast();
+                        nextCursor = new AppointmentCursor(last.getSlotStart(), last.getId()).encode();
+                }
+
+                return AppointmentPageResponse.builder()
+                        .appointments(page.stream().map(this::mapToResponse).toList())
+                        .nextCursor(nextCursor)
+                        .hasMore(hasMore)
+                        .build();
+        }
+
+        @Override
+        public void validateExportRange(String from, String to) {
+                parseExportRange(from, to);
+        }
+
+        @Override
+        @Transactional(readOnly = true)
+        public void exportDoctorAppointments(
+                UUID doctorId,
+                String from,
+                String to,
+                ExportFormat format,
+                OutputStream out) throws IOException {
+
+                DateRange range = parseExportRange(from, to);
+                int written = 0;
+
+                try (Stream<Appointment> rows = appointmentRepository.streamByDoctorId(
+                                doctorId,
+                                range.from().atStartOfDay(),
+                                range.to().plusDays(1).atStartOfDay());
+                     AppointmentExportWriter writer = AppointmentExportWriter.of(format, out, jsonMapper)) {
+
+                        Iterator<Appointment> iterator = rows.iterator();
+                        while (iterator.hasNext()) {
+                                Appointment appointment = iterator.next();
+                                writer.write(mapToResponse(appointment));
+
+                                // Keeps the persistence context from growing with the export
+                                entityManager.detach(appointment);
+
+                                if (++written % EXPORT_FLUSH_ROWS == 0) {
+                                        writer.flush();
+                                }
+                        }
+                }
+
+                log.info("Exported {} appointments of doctor {} from {} to {} as {}", written, doctorId, from, to, format);
+        }
+
+        private DateRange parseExportRange(String from, String to) {
+
+                LocalDate fromDate = LocalDate.parse(from);
+                LocalDate toDate = LocalDate.parse(to);
+
+                if (toDate.isBefore(fromDate)) {
+                        throw new BadRequestException("From date must be before or equal to to date");
+                }
+
+                if (ChronoUnit.DAYS.between(fromDate, toDate) >= MAX_EXPORT_DAYS) {
+                        throw new BadRequestException("Export range cannot exceed " + MAX_EXPORT_DAYS + " days");
+                }
+
+                return new DateRange(fromDate, toDate);
+        }
+
+        private record DateRange(LocalDate from, LocalDate to) {
+        }
+
+        @Override
+        @Transactional
         public AppointmentResponse cancelByAppointmentId(UUID id) {
                 Appointment appointment=appointmentRepository.findById(id)
                         .orElseThrow(()-> new AppointmentNotFoundException("No appointment found with id"));
 
+                // Cancelling twice changes nothing and must not publish a second CANCELLED event
+                if (appointment.getStatus() == AppointmentStatus.CANCELLED) {
+                        return mapToResponse(appointment);
+                }
+
                 appointment.setStatus(AppointmentStatus.CANCELLED);
                 appointmentRepository.save(appointment);
+                outboxWriter.append(AppointmentEventType.CANCELLED, appointment);
+                occupancyIndex.release(appointment.getDoctorId(), appointment.getSlotStart());
 
                 return mapToResponse(appointment);
         }
 
 
 
+        @Override
+        @Transactional
+        public BulkCancellationResponse cancelDoctorAppointmentsInRange(UUID doctorId, String from, String to) {
+
+                LocalDate fromDate = LocalDate.parse(from);
+                LocalDate toDate = LocalDate.parse(to);
+
+                if (toDate.isBefore(fromDate)) {
+                        throw new BadRequestException("From date must be before or equal to to date");
+                }
+
+                // Same bound as the longest leave doctor-service accepts
+                if (ChronoUnit.DAYS.between(fromDate, toDate) >= MAX_CANCEL_DAYS) {
+                        throw new BadRequestException("Date range cannot exceed " + MAX_CANCEL_DAYS + " days");
+                }
+
+                // Appointments that already started are history, only the rest of the range is cancelled
+                LocalDateTime now = LocalDateTime.now();
+                LocalDateTime start = fromDate.atStartOfDay().isBefore(now) ? now : fromDate.atStartOfDay();
+                LocalDateTime end = toDate.plusDays(1).atStartOfDay();
+
+                List<UUID> cancelledIds = start.isBefore(end)
+                        ? appointmentRepository.cancelActiveInRange(doctorId, start, end)
+                        : List.of();
+
+                outboxWriter.appendAll(AppointmentEventType.CANCELLED, appointmentRepository.findAllById(cancelledIds));
+                occupancyIndex.invalidate(doctorId, fromDate, toDate);
+
+                log.info("Cancelled {} appointments of doctor {} from {} to {}", cancelledIds.size(), doctorId, fromDate, toDate);
+
+                return BulkCancellationResponse.builder()
+                        .doctorId(doctorId)
+                        .from(fromDate)
+                        .to(toDate)
+                        .cancelledCount(cancelledIds.size())
+                        .appointmentIds(cancelledIds)
+                        .build();
+        }
+
         @Override
         public AppointmentResponse rescheduleAppointment(UUID appointmentId, RescheduleRequest request) {
 
@@ -344,26 +1089,54 @@ public class AppointmentServiceImpl implements AppointmentService {
                         throw new RuntimeException("Cancelled appointment cannot be rescheduled");
                 }
 
-                // Validate slot is available (checks leave, schedule, and working hours)
-                if (!isSlotValid(appointment.getDoctorId(), request.getNewSlotStart())) {
+                UUID doctorId = appointment.getDoctorId();
+                LocalDateTime newSlotStart = request.getNewSlotStart();
+
+                if (newSlotStart == null) {
                         throw new DoctorNotAvailableException("Slot is not available");
                 }
 
-                // Check if slot already booked for same doctor
-                boolean alreadyBooked = appointmentRepository.existsByDoctorIdAndSlotStart(
-                        appointment.getDoctorId(),
-                        request.getNewSlotStart()
-                );
+                if (slotHoldTable.isHeldByOther(doctorId, newSlotStart, appointment.getPatientId())) {
+                        throw new DoctorNotAvailableException("Slot is currently held by another patient");
+                }
 
-                if (alreadyBooked) {
-                        throw new DoctorNotAvailableException("Slot already booked!");
+                LocalDateTime newSlotEnd;
+
+                try (LookupExecutor.Scope lookups = lookupExecutor.open()) {
+
+                        Supplier<CalendarSnapshotResponse> calendarLookup = lookups.fork(() ->
+                                fetchCalendar(doctorId, newSlotStart.toLocalDate(), newSlotStart.toLocalDate()));
+                        Supplier<List<BookedSlot>> bookedLookup = lookups.fork(() -> findBookedSlotsOfDay(doctorId, newSlotStart));
+
+                        // Validate slot is available (checks leave, schedule, and working hours)
+                        SlotTemplate template = slotTemplateAt(calendarLookup.get(), doctorId, newSlotStart);
+
+                        if (template == null) {
+                                throw new DoctorNotAvailableException("Slot is not available");
+                        }
+
+                        newSlotEnd = newSlotStart.plusMinutes(template.slotMinutes());
+
+                        // Check if slot already booked for same doctor, the appointment itself does not count
+                        boolean alreadyBooked = bookedLookup.get().stream()
+                                .filter(booked -> !booked.id().equals(appointmentId))
+                                .anyMatch(booked -> booked.overlaps(newSlotStart, newSlotEnd));
+
+                        if (alreadyBooked) {
+                                throw new DoctorNotAvailableException("Slot already booked!");
+                        }
                 }
 
+                BookedSlot previousSlot = new BookedSlot(appointment.getId(), appointment.getSlotStart(), appointment.getSlotEnd());
+
                 // Update slot only
-                appointment.setSlotStart(request.getNewSlotStart());
-                appointment.setSlotEnd(request.getNewSlotEnd());
+                appointment.setSlotStart(newSlotStart);
+                appointment.setSlotEnd(newSlotEnd);
 
-                Appointment saved = appointmentRepository.save(appointment);
+                Appointment saved = saveSlot(appointment, AppointmentEventType.RESCHEDULED, previousSlot);
+                occupancyIndex.release(saved.getDoctorId(), previousSlot.slotStart());
+                occupancyIndex.occupy(saved.getDoctorId(), saved.getSlotStart(), saved.getSlotEnd());
+                slotHoldTable.confirm(saved.getDoctorId(), saved.getSlotStart(), saved.getPatientId());
 
                 return mapToResponse(saved);
         }
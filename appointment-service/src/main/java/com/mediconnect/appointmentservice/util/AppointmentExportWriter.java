@@ -0,0 +1,121 @@
+package com.mediconnect.appointmentservice.util;
+
+import com.mediconnect.appointmentservice.DTO.responseDTO.AppointmentResponse;
+import com.mediconnect.appointmentservice.enums.ExportFormat;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes exported appointments one row at a time, nothing is kept after a row is written.
+ */
+public abstract class AppointmentExportWriter implements AutoCloseable {
+
+    protected final Writer writer;
+
+    protected AppointmentExportWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    public static AppointmentExportWriter of(ExportFormat format, OutputStream out, JsonMapper jsonMapper) {
+        return switch (format) {
+            case CSV -> new Csv(out);
+            case NDJSON -> new NdJson(out, jsonMapper);
+        };
+    }
+
+    public abstract void write(AppointmentResponse appointment) throws IOException;
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    // Flushes but leaves the response stream open for the container to close
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    private static final class Csv extends AppointmentExportWriter {
+
+        private static final String HEADER =
+                "appointmentId,doctorId,patientId,slotStart,slotEnd,status,consultationType,reason,paid\n";
+
+        private boolean headerWritten;
+
+        Csv(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(AppointmentResponse a) throws IOException {
+            if (!headerWritten) {
+                writer.write(HEADER);
+                headerWritten = true;
+            }
+            writer.write(String.valueOf(a.getAppointmentId()));
+            writer.write(',');
+            writer.write(String.valueOf(a.getDoctorId()));
+            writer.write(',');
+            writer.write(String.valueOf(a.getPatientId()));
+            writer.write(',');
+            writer.write(String.valueOf(a.getSlotStart()));
+            writer.write(',');
+            writer.write(String.valueOf(a.getSlotEnd()));
+            writer.write(',');
+            writer.write(String.valueOf(a.getStatus()));
+            writer.write(',');
+            writer.write(String.valueOf(a.getConsultationType()));
+            writer.write(',');
+            writer.write(quote(a.getReason()));
+            writer.write(',');
+            writer.write(String.valueOf(a.isPaid()));
+            writer.write('\n');
+        }
+
+        // An empty export still gets its header
+        @Override
+        public void close() throws IOException {
+            if (!headerWritten) {
+                writer.write(HEADER);
+                headerWritten = true;
+            }
+            super.close();
+        }
+
+        // RFC 4180 quoting; free text that starts like a formula is prefixed so spreadsheets show it as text
+        private static String quote(String value) {
+            if (value == null) {
+                return "";
+            }
+            if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0) {
+                value = "'" + value;
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    private static final class NdJson extends AppointmentExportWriter {
+
+        private final JsonMapper jsonMapper;
+
+        NdJson(OutputStream out, JsonMapper jsonMapper) {
+            super(out);
+            this.jsonMapper = jsonMapper;
+        }
+
+        @Override
+        public void write(AppointmentResponse appointment) throws IOException {
+            writer.write(jsonMapper.writeValueAsString(appointment));
+            writer.write('\n');
+        }
+    }
+}
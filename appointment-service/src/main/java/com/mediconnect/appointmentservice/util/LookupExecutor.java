@@ -0,0 +1,114 @@
+package com.mediconnect.appointmentservice.util;
+
+import com.mediconnect.appointmentservice.exception.LookupTimeoutException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs the independent remote and database lookups of one request.
+ * <p>
+ * In parallel mode every forked lookup starts right away on its own virtual thread and all
+ * of them share one deadline, so the request waits roughly as long as the slowest lookup.
+ * In sequential mode a lookup only runs when its result is first needed, which keeps the
+ * old one-after-another behaviour. Switch with {@code app.lookup.parallel}.
+ */
+@Component
+@Slf4j
+public class LookupExecutor {
+
+    private final boolean parallel;
+    private final Duration deadline;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public LookupExecutor(
+            @Value("${app.lookup.parallel:true}") boolean parallel,
+            @Value("${app.lookup.deadline-ms:3000}") long deadlineMs) {
+        this.parallel = parallel;
+        this.deadline = Duration.ofMillis(deadlineMs);
+        log.info("Lookups run {} with a {} ms deadline", parallel ? "in parallel" : "sequentially", deadlineMs);
+    }
+
+    public Scope open() {
+        return new Scope();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // Lookups still running when the scope closes are abandoned, not interrupted: an interrupt closes the
+    // socket of a virtual thread, which would throw away a pooled database connection. Remote lookups
+    // end on their own through the DoctorClientPolicy timeouts.
+    public final class Scope implements AutoCloseable {
+
+        private final long deadlineNanos = System.nanoTime() + deadline.toNanos();
+        private final List<Future<?>> forked = new ArrayList<>();
+
+        public <T> Supplier<T> fork(Supplier<T> lookup) {
+            if (!parallel) {
+                return new Lazy<>(lookup);
+            }
+            Future<T> future = executor.submit(lookup::get);
+            forked.add(future);
+            return () -> await(future);
+        }
+
+        private <T> T await(Future<T> future) {
+            try {
+                return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(false);
+                throw new LookupTimeoutException("Lookup did not finish within " + deadline.toMillis() + " ms");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new LookupTimeoutException("Lookup was interrupted");
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        @Override
+        public void close() {
+            forked.forEach(future -> future.cancel(false));
+        }
+    }
+
+    private static final class Lazy<T> implements Supplier<T> {
+
+        private Supplier<T> lookup;
+        private T value;
+
+        Lazy(Supplier<T> lookup) {
+            this.lookup = lookup;
+        }
+
+        @Override
+        public T get() {
+            if (lookup != null) {
+                value = lookup.get();
+                lookup = null;
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+-- Matches the table Hibernate used to create, so existing databases are left untouched
+CREATE TABLE IF NOT EXISTS appointments (
+    id                UUID         NOT NULL PRIMARY KEY,
+    doctor_id         UUID         NOT NULL,
+    patient_id        UUID         NOT NULL,
+    slot_start        TIMESTAMP(6) NOT NULL,
+    slot_end          TIMESTAMP(6) NOT NULL,
+    status            VARCHAR(255) NOT NULL,
+    consultation_type VARCHAR(255) NOT NULL,
+    reason            VARCHAR(255),
+    notes             VARCHAR(255),
+    paid              BOOLEAN      NOT NULL,
+    created_at        TIMESTAMP(6),
+    updated_at        TIMESTAMP(6)
+);
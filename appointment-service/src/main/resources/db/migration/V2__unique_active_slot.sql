@@ -0,0 +1,24 @@
+-- A cancelled appointment must not keep its slot. Replace the (doctor_id, slot_start)
+-- unique constraint generated by Hibernate with a partial unique index on live rows.
+DO $$
+DECLARE
+    legacy_constraint TEXT;
+BEGIN
+    FOR legacy_constraint IN
+        SELECT con.conname
+        FROM pg_constraint con
+        JOIN pg_class rel ON rel.oid = con.conrelid
+        WHERE rel.relname = 'appointments'
+          AND con.contype = 'u'
+          AND (SELECT array_agg(att.attname::TEXT ORDER BY att.attname)
+               FROM pg_attribute att
+               WHERE att.attrelid = con.conrelid
+                 AND att.attnum = ANY (con.conkey)) = ARRAY ['doctor_id', 'slot_start']
+    LOOP
+        EXECUTE format('ALTER TABLE appointments DROP CONSTRAINT %I', legacy_constraint);
+    END LOOP;
+END $$;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_appointments_doctor_slot_active
+    ON appointments (doctor_id, slot_start)
+    WHERE status <> 'CANCELLED';
@@ -0,0 +1,7 @@
+-- Keyset pagination of the doctor and patient listings walks (slot_start, id) within one owner,
+-- so a page is a range scan starting at the cursor no matter how deep it is.
+CREATE INDEX IF NOT EXISTS ix_appointments_doctor_slot_id
+    ON appointments (doctor_id, slot_start, id);
+
+CREATE INDEX IF NOT EXISTS ix_appointments_patient_slot_id
+    ON appointments (patient_id, slot_start, id);
@@ -0,0 +1,7 @@
+-- Status-filtered listings seek to (owner, status) and read rows already in (slot_start, id) order.
+-- Unfiltered listings keep using the V3 indexes, booked-slot reads the V2 partial index.
+CREATE INDEX IF NOT EXISTS ix_appointments_doctor_status_slot_id
+    ON appointments (doctor_id, status, slot_start, id);
+
+CREATE INDEX IF NOT EXISTS ix_appointments_patient_status_slot_id
+    ON appointments (patient_id, status, slot_start, id);
@@ -0,0 +1,15 @@
+-- Appointment events written in the same transaction as the change, drained by OutboxRelay.
+-- Rows are deleted once the sink accepted them, so the table only holds the unpublished tail.
+CREATE SEQUENCE IF NOT EXISTS appointment_outbox_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS appointment_outbox (
+    id                  BIGINT       NOT NULL PRIMARY KEY,
+    event_type          VARCHAR(32)  NOT NULL,
+    appointment_id      UUID         NOT NULL,
+    doctor_id           UUID         NOT NULL,
+    patient_id          UUID         NOT NULL,
+    slot_start          TIMESTAMP(6) NOT NULL,
+    slot_end            TIMESTAMP(6) NOT NULL,
+    previous_slot_start TIMESTAMP(6),
+    occurred_at         TIMESTAMP(6) NOT NULL
+);
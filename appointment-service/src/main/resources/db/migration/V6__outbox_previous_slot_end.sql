@@ -0,0 +1,2 @@
+-- Rescheduled events carry the whole slot that was given up, not only its start
+ALTER TABLE appointment_outbox ADD COLUMN IF NOT EXISTS previous_slot_end TIMESTAMP(6);
@@ -0,0 +1,77 @@
+-- Slot length and buffer can differ between calendar versions, so two live appointments of a
+-- doctor can overlap without starting at the same time, which the V2 unique index can't see.
+-- Reject any overlap of [slot_start, slot_end) among live rows. Back-to-back slots still fit
+-- because the ranges are half-open. The V2 index stays, booked-slot reads use it.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Overlaps booked before the constraint existed would make it fail. Per doctor the earliest
+-- booked row keeps its slot and every later row overlapping a kept one is cancelled. Each
+-- cancelled row is recorded here with the row that kept the slot, so the patients can be
+-- contacted; no appointment event is written for them.
+CREATE TABLE IF NOT EXISTS appointment_overlap_conflicts (
+    appointment_id      UUID         NOT NULL PRIMARY KEY,
+    kept_appointment_id UUID         NOT NULL,
+    doctor_id           UUID         NOT NULL,
+    patient_id          UUID         NOT NULL,
+    slot_start          TIMESTAMP(6) NOT NULL,
+    slot_end            TIMESTAMP(6) NOT NULL,
+    resolved_at         TIMESTAMP(6) NOT NULL
+);
+
+DO $$
+DECLARE
+    candidate RECORD;
+    kept_id   UUID;
+    resolved  INTEGER := 0;
+BEGIN
+    -- Live rows that overlap another live row, numbered in booking order per doctor
+    CREATE TEMPORARY TABLE overlap_candidates ON COMMIT DROP AS
+    SELECT a.id, a.doctor_id, a.patient_id, a.slot_start, a.slot_end,
+           row_number() OVER (PARTITION BY a.doctor_id ORDER BY a.created_at NULLS LAST, a.id) AS booking_order
+    FROM appointments a
+    WHERE a.status <> 'CANCELLED'
+      AND EXISTS (SELECT 1
+                  FROM appointments b
+                  WHERE b.doctor_id = a.doctor_id
+                    AND b.id <> a.id
+                    AND b.status <> 'CANCELLED'
+                    AND b.slot_start < a.slot_end
+                    AND a.slot_start < b.slot_end);
+
+    -- In booking order, so a row cancelled here no longer blocks the rows after it
+    FOR candidate IN
+        SELECT * FROM overlap_candidates ORDER BY doctor_id, booking_order
+    LOOP
+        SELECT earlier.id INTO kept_id
+        FROM overlap_candidates earlier
+        JOIN appointments b ON b.id = earlier.id
+        WHERE earlier.doctor_id = candidate.doctor_id
+          AND earlier.booking_order < candidate.booking_order
+          AND b.status <> 'CANCELLED'
+          AND earlier.slot_start < candidate.slot_end
+          AND candidate.slot_start < earlier.slot_end
+        LIMIT 1;
+
+        IF kept_id IS NOT NULL THEN
+            UPDATE appointments
+            SET status = 'CANCELLED', updated_at = now()
+            WHERE id = candidate.id;
+
+            INSERT INTO appointment_overlap_conflicts
+                (appointment_id, kept_appointment_id, doctor_id, patient_id, slot_start, slot_end, resolved_at)
+            VALUES (candidate.id, kept_id, candidate.doctor_id, candidate.patient_id,
+                    candidate.slot_start, candidate.slot_end, now());
+
+            resolved := resolved + 1;
+        END IF;
+    END LOOP;
+
+    IF resolved > 0 THEN
+        RAISE WARNING 'Cancelled % overlapping appointments, see appointment_overlap_conflicts', resolved;
+    END IF;
+END $$;
+
+ALTER TABLE appointments
+    ADD CONSTRAINT ex_appointments_doctor_slot_overlap
+    EXCLUDE USING gist (doctor_id WITH =, tsrange(slot_start, slot_end) WITH &&)
+    WHERE (status <> 'CANCELLED');
@@ -0,0 +1,276 @@
+package com.mediconnect.appointmentservice.repository;
+
+import com.mediconnect.appointmentservice.entity.Appointment;
+import com.mediconnect.appointmentservice.enums.AppointmentStatus;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the Flyway migrations against an embedded PostgreSQL, loads a realistic amount of rows
+ * and checks that every {@link AppointmentRepository} access path is answered from an index.
+ * Each case calls the repository, records the SQL Hibernate sent with the values it bound,
+ * and explains exactly that statement.
+ */
+@DataJpaTest(properties = {
+		// bootstrap.yml imports the config server, load no bootstrap file at all
+		"spring.cloud.bootstrap.name=none",
+		"spring.cloud.config.enabled=false"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class AppointmentQueryPlanTest {
+
+	private static final int ROWS = 60_000;
+	private static final int DOCTORS = 300;
+	private static final int PATIENTS = 6_000;
+	private static final int PAGE = 21;
+
+	private static final UUID DOCTOR = numbered(0, 17);
+	private static final UUID PATIENT = numbered(1, 4_242);
+	private static final LocalDateTime FROM = LocalDateTime.of(2024, 3, 1, 0, 0);
+	private static final LocalDateTime TO = LocalDateTime.of(2024, 3, 8, 0, 0);
+	private static final Sort LISTING_ORDER = Sort.by("slotStart", "id");
+
+	// Repository methods declared on AppointmentRepository that have a plan case below
+	private static final Set<String> COVERED_METHODS = Set.of("findBookedSlots", "streamByDoctorId", "cancelActiveInRange");
+
+	private static final List<RecordedStatement> recorded = new CopyOnWriteArrayList<>();
+
+	private static EmbeddedPostgres postgres;
+
+	@Autowired
+	private AppointmentRepository appointmentRepository;
+
+	@BeforeAll
+	static void startDatabase() throws Exception {
+		postgres = EmbeddedPostgres.start();
+		DataSource database = postgres.getPostgresDatabase();
+
+		Flyway.configure()
+				.dataSource(database)
+				.locations("classpath:db/migration")
+				.load()
+				.migrate();
+
+		try (Connection connection = database.getConnection(); Statement statement = connection.createStatement()) {
+			statement.execute("""
+					INSERT INTO appointments (id, doctor_id, patient_id, slot_start, slot_end, status, consultation_type, paid)
+					SELECT gen_random_uuid(),
+					       ('00000000-0000-0000-0000-' || lpad((g %% %d)::text, 12, '0'))::uuid,
+					       ('00000000-0000-0000-0001-' || lpad((g %% %d)::text, 12, '0'))::uuid,
+					       timestamp '2024-01-01 09:00' + (g / %d) * interval '30 minutes',
+					       timestamp '2024-01-01 09:30' + (g / %d) * interval '30 minutes',
+					       (ARRAY['BOOKED', 'CANCELLED', 'COMPLETED', 'NO_SHOW'])[1 + (g / %d) %% 4],
+					       'ONLINE',
+					       false
+					FROM generate_series(1, %d) g
+					""".formatted(DOCTORS, PATIENTS, DOCTORS, DOCTORS, DOCTORS, ROWS));
+			statement.execute("ANALYZE appointments");
+		}
+	}
+
+	@AfterAll
+	static void stopDatabase() throws Exception {
+		if (postgres != null) {
+			postgres.close();
+		}
+	}
+
+	@DynamicPropertySource
+	static void dataSource(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+		registry.add("spring.datasource.username", () -> "postgres");
+	}
+
+	static Stream<Arguments> accessPaths() {
+		return Stream.<Arguments>of(
+				Arguments.of("findBookedSlots", (Consumer<AppointmentRepository>) repository ->
+						repository.findBookedSlots(DOCTOR, FROM, TO)),
+				Arguments.of("streamByDoctorId", (Consumer<AppointmentRepository>) repository -> {
+					try (Stream<Appointment> rows = repository.streamByDoctorId(DOCTOR, FROM, TO)) {
+						rows.forEach(row -> { });
+					}
+				}),
+				Arguments.of("cancelActiveInRange", (Consumer<AppointmentRepository>) repository ->
+						repository.cancelActiveInRange(DOCTOR, FROM, TO)),
+				Arguments.of("doctor listing, first page", listing(
+						AppointmentSpecifications.forDoctor(DOCTOR))),
+				Arguments.of("doctor listing, status and date range after a cursor", listing(
+						AppointmentSpecifications.forDoctor(DOCTOR)
+								.and(AppointmentSpecifications.hasStatus(AppointmentStatus.BOOKED))
+								.and(AppointmentSpecifications.startsAtOrAfter(FROM))
+								.and(AppointmentSpecifications.startsBefore(TO))
+								.and(AppointmentSpecifications.after(FROM, new UUID(0, 0))))),
+				Arguments.of("patient listing, first page", listing(
+						AppointmentSpecifications.forPatient(PATIENT))),
+				Arguments.of("patient listing, status after a cursor", listing(
+						AppointmentSpecifications.forPatient(PATIENT)
+								.and(AppointmentSpecifications.hasStatus(AppointmentStatus.COMPLETED))
+								.and(AppointmentSpecifications.after(FROM, new UUID(0, 0)))))
+		);
+	}
+
+	// Same keyset page read as AppointmentServiceImpl.findPage
+	private static Consumer<AppointmentRepository> listing(Specification<Appointment> spec) {
+		return repository -> repository.findBy(spec, query -> query
+				.sortBy(LISTING_ORDER)
+				.limit(PAGE)
+				.all());
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("accessPaths")
+	void accessPathUsesAnIndex(String name, Consumer<AppointmentRepository> access) throws Exception {
+
+		recorded.clear();
+		access.accept(appointmentRepository);
+
+		List<RecordedStatement> statements = recorded.stream()
+				.filter(statement -> statement.sql().contains("appointments"))
+				.toList();
+		assertFalse(statements.isEmpty(), () -> name + " sent no statement on appointments");
+
+		for (RecordedStatement statement : statements) {
+			String plan = explain(statement);
+
+			assertFalse(plan.contains("Seq Scan on appointments"),
+					() -> name + " scans the whole table:\n" + statement.sql() + "\n" + plan);
+			assertTrue(plan.contains("Index"),
+					() -> name + " does not use an index:\n" + statement.sql() + "\n" + plan);
+		}
+	}
+
+	@Test
+	void everyRepositoryMethodHasAPlanCase() {
+		Set<String> declared = Arrays.stream(AppointmentRepository.class.getDeclaredMethods())
+				.map(Method::getName)
+				.collect(Collectors.toSet());
+
+		declared.removeAll(COVERED_METHODS);
+
+		assertTrue(declared.isEmpty(), () -> "No query plan case for " + declared);
+	}
+
+	// Replays the recorded parameter setters on the EXPLAIN, which keeps the parameter positions
+	private String explain(RecordedStatement recordedStatement) throws Exception {
+		try (Connection connection = postgres.getPostgresDatabase().getConnection();
+			 PreparedStatement statement = connection.prepareStatement("EXPLAIN " + recordedStatement.sql())) {
+
+			for (Binding binding : recordedStatement.bindings()) {
+				binding.setter().invoke(statement, binding.arguments());
+			}
+
+			StringBuilder plan = new StringBuilder();
+			try (ResultSet rows = statement.executeQuery()) {
+				while (rows.next()) {
+					plan.append(rows.getString(1)).append('\n');
+				}
+			}
+			return plan.toString();
+		}
+	}
+
+	private static UUID numbered(int group, int number) {
+		return UUID.fromString("00000000-0000-0000-%04d-%012d".formatted(group, number));
+	}
+
+	@TestConfiguration
+	static class RecordingDataSourceConfiguration {
+
+		// Wraps the application's DataSource so every statement Hibernate executes is recorded
+		@Bean
+		static BeanPostProcessor recordingDataSource() {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					return bean instanceof DataSource dataSource
+							? proxy(DataSource.class, dataSource, (target, method, args) -> {
+								Object result = method.invoke(target, args);
+								return result instanceof Connection connection ? recording(connection) : result;
+							})
+							: bean;
+				}
+			};
+		}
+
+		private static Connection recording(Connection connection) {
+			return proxy(Connection.class, connection, (target, method, args) -> {
+				Object result = method.invoke(target, args);
+				if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+					return recording(statement, (String) args[0]);
+				}
+				return result;
+			});
+		}
+
+		private static PreparedStatement recording(PreparedStatement statement, String sql) {
+			List<Binding> bindings = new ArrayList<>();
+			return proxy(PreparedStatement.class, statement, (target, method, args) -> {
+				if (method.getName().startsWith("set") && args != null && args.length > 1 && args[0] instanceof Integer) {
+					bindings.add(new Binding(method, args));
+				} else if (method.getName().startsWith("execute")) {
+					recorded.add(new RecordedStatement(sql, List.copyOf(bindings)));
+				}
+				return method.invoke(target, args);
+			});
+		}
+
+		private static <T> T proxy(Class<T> type, T target, Interception handler) {
+			InvocationHandler invocationHandler = (proxy, method, args) -> {
+				try {
+					return handler.invoke(target, method, args);
+				} catch (InvocationTargetException e) {
+					throw e.getCause();
+				}
+			};
+			return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, invocationHandler));
+		}
+	}
+
+	private interface Interception {
+		Object invoke(Object target, Method method, Object[] args) throws Throwable;
+	}
+
+	private record Binding(Method setter, Object[] arguments) {
+	}
+
+	private record RecordedStatement(String sql, List<Binding> bindings) {
+	}
+}
@@ -0,0 +1,25 @@
+package com.mediconnect.doctorservice.client;
+
+import com.mediconnect.doctorservice.dto.responseDtos.ApiResponse;
+import com.mediconnect.doctorservice.dto.responseDtos.AppointmentCancellationResponse;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@FeignClient(name = "appointment-service", path = "${app.appointment-service.path:}")
+public interface AppointmentClient {
+
+    @DeleteMapping("/appointments/cache/doctors/{doctorId}")
+    void invalidateDoctorCache(@PathVariable("doctorId") UUID doctorId);
+
+    @PatchMapping("/appointments/doctor/{doctorId}/cancel")
+    ApiResponse<AppointmentCancellationResponse> cancelAppointmentsInRange(
+            @PathVariable("doctorId") UUID doctorId,
+            @RequestParam("from") LocalDate from,
+            @RequestParam("to") LocalDate to);
+}
@@ -29,12 +29,18 @@ public class SecurityConfig {
                         .requestMatchers("/actuator/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/doctors").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/doctors").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/doctors/search").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/doctors/search").permitAll()
                         .requestMatchers(HttpMethod.GET, "/doctors/{doctorId}").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/doctors/{doctorId}").permitAll()
                         .requestMatchers(HttpMethod.GET, "/doctors/availability").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/doctors/availability").permitAll()
                         .requestMatchers(HttpMethod.GET, "/doctors/availability/{doctorId}").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/doctors/availability/{doctorId}").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/doctors/specialization/{specialization}").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/doctors/specialization/{specialization}").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/doctors/calendar/{doctorId}").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/doctors/calendar/{doctorId}").permitAll()
                         .requestMatchers(HttpMethod.POST, "/doctors").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/doctors").permitAll()
                         .requestMatchers(HttpMethod.POST, "/doctors/availability").permitAll()
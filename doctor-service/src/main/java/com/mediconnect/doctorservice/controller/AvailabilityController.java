@@ -4,10 +4,13 @@ import com.mediconnect.doctorservice.dto.requestDtos.AvailabilityRequest;
 import com.mediconnect.doctorservice.dto.responseDtos.ApiResponse;
 import com.mediconnect.doctorservice.dto.responseDtos.AvailabilityResponse;
 import com.mediconnect.doctorservice.service.AvailabilityService;
+import com.mediconnect.doctorservice.service.DoctorVersionService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -18,6 +21,7 @@ import java.util.UUID;
 public class AvailabilityController {
 
     private final AvailabilityService availabilityService;
+    private final DoctorVersionService doctorVersionService;
 
     @PostMapping
     public ResponseEntity<ApiResponse<AvailabilityResponse>> addAvailability(
@@ -28,10 +32,17 @@ public class AvailabilityController {
     }
 
     @GetMapping("/{doctorId}")
-    public ApiResponse<List<AvailabilityResponse>> getAvailability(
-            @PathVariable UUID doctorId) {
+    public ResponseEntity<ApiResponse<List<AvailabilityResponse>>> getAvailability(
+            @PathVariable UUID doctorId, WebRequest webRequest) {
 
-        return availabilityService.getAvailabilityByDoctor(doctorId);
+        String eTag = doctorVersionService.currentETag(doctorId);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(availabilityService.getAvailabilityByDoctor(doctorId));
     }
 
     @PutMapping("/{availabilityId}")
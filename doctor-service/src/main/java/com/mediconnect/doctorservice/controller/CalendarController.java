@@ -0,0 +1,42 @@
+package com.mediconnect.doctorservice.controller;
+
+import com.mediconnect.doctorservice.dto.responseDtos.ApiResponse;
+import com.mediconnect.doctorservice.dto.responseDtos.CalendarSnapshotResponse;
+import com.mediconnect.doctorservice.service.CalendarService;
+import com.mediconnect.doctorservice.service.DoctorVersionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/doctors/calendar")
+@RequiredArgsConstructor
+public class CalendarController {
+
+    private final CalendarService calendarService;
+    private final DoctorVersionService doctorVersionService;
+
+    @GetMapping("/{doctorId}")
+    public ResponseEntity<ApiResponse<CalendarSnapshotResponse>> getCalendarSnapshot(
+            @PathVariable UUID doctorId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            WebRequest webRequest) {
+
+        // ETags are compared per URL, so one version covers every from/to range
+        String eTag = doctorVersionService.currentETag(doctorId);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(calendarService.getCalendarSnapshot(doctorId, from, to));
+    }
+}
@@ -4,19 +4,27 @@ import com.mediconnect.doctorservice.dto.responseDtos.ApiResponse;
 import com.mediconnect.doctorservice.dto.requestDtos.DoctorRequest;
 import com.mediconnect.doctorservice.dto.requestDtos.EducationRequest;
 import com.mediconnect.doctorservice.dto.requestDtos.ExperienceRequest;
+import com.mediconnect.doctorservice.dto.responseDtos.DoctorImportResponse;
 import com.mediconnect.doctorservice.dto.responseDtos.DoctorResponse;
+import com.mediconnect.doctorservice.dto.responseDtos.DoctorSummaryResponse;
 import com.mediconnect.doctorservice.dto.responseDtos.EducationResponse;
 import com.mediconnect.doctorservice.dto.responseDtos.ExperienceResponse;
+import com.mediconnect.doctorservice.enums.DoctorImportFormat;
+import com.mediconnect.doctorservice.service.DoctorImportService;
 import com.mediconnect.doctorservice.service.DoctorService;
+import com.mediconnect.doctorservice.service.DoctorVersionService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 import java.util.UUID;
@@ -28,6 +36,8 @@ import java.util.UUID;
 public class DoctorController {
 
     private final DoctorService doctorService;
+    private final DoctorImportService doctorImportService;
+    private final DoctorVersionService doctorVersionService;
 
     @PostMapping
     public ResponseEntity<ApiResponse<DoctorResponse>> createDoctor(@RequestBody DoctorRequest request) {
@@ -43,8 +53,19 @@ public class DoctorController {
                 .body(doctorService.createDoctorsBulk(requests));
     }
 
+    // Streams large rosters instead of binding them to a list, failed rows are listed in the response
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<ApiResponse<DoctorImportResponse>> importDoctorsCsv(InputStream body) {
+        return ResponseEntity.ok(doctorImportService.importDoctors(body, DoctorImportFormat.CSV));
+    }
+
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<ApiResponse<DoctorImportResponse>> importDoctorsNdjson(InputStream body) {
+        return ResponseEntity.ok(doctorImportService.importDoctors(body, DoctorImportFormat.NDJSON));
+    }
+
     @GetMapping
-    public ResponseEntity<ApiResponse<List<DoctorResponse>>> getDoctorsByFilters(
+    public ResponseEntity<ApiResponse<List<DoctorSummaryResponse>>> getDoctorsByFilters(
             @RequestParam(required = false) Boolean active,
             @RequestParam(required = false) String name,
             @RequestParam(defaultValue = "0") int page,
@@ -59,9 +80,34 @@ public class DoctorController {
                 doctorService.getDoctorsByFilters(active, name, page, size, sortBy, order));
     }
 
+    // Prefix, fuzzy and multi-token search over name, email and primary specialization
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<DoctorSummaryResponse>>> searchDoctors(
+            @RequestParam String q,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(doctorService.searchDoctors(q, active, page, size));
+    }
+
+    // Answers 304 when If-None-Match carries the current version, without loading the profile.
+    // The version is read before the data, so a concurrent change can only cost an extra 200.
     @GetMapping("/{doctorId}")
-    public ResponseEntity<ApiResponse<DoctorResponse>> getDoctorById(@PathVariable UUID doctorId) {
-        return ResponseEntity.ok(doctorService.getDoctorById(doctorId));
+    public ResponseEntity<ApiResponse<DoctorResponse>> getDoctorById(@PathVariable UUID doctorId, WebRequest webRequest) {
+        String eTag = doctorVersionService.currentETag(doctorId);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(doctorService.getDoctorById(doctorId));
+    }
+
+    @GetMapping("/specialization/{specialization}")
+    public ResponseEntity<ApiResponse<List<DoctorResponse>>> getActiveDoctorsBySpecialization(
+            @PathVariable String specialization) {
+        return ResponseEntity.ok(doctorService.getActiveDoctorsBySpecialization(specialization));
     }
 
     @GetMapping("/me")
@@ -4,13 +4,16 @@ import com.mediconnect.doctorservice.dto.requestDtos.LeaveRequest;
 import com.mediconnect.doctorservice.dto.responseDtos.ApiResponse;
 import com.mediconnect.doctorservice.dto.responseDtos.LeaveResponse;
 import com.mediconnect.doctorservice.service.DoctorLeaveService;
+import com.mediconnect.doctorservice.service.DoctorVersionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -22,6 +25,7 @@ import java.util.UUID;
 public class DoctorLeaveController {
 
     private final DoctorLeaveService leaveService;
+    private final DoctorVersionService doctorVersionService;
 
     @PostMapping
     @PreAuthorize("hasRole('DOCTOR')")
@@ -37,10 +41,18 @@ public class DoctorLeaveController {
 
     @GetMapping("/{doctorId}")
     public ResponseEntity<ApiResponse<List<LeaveResponse>>> getLeavesByDoctor(
-            @PathVariable UUID doctorId) {
+            @PathVariable UUID doctorId, WebRequest webRequest) {
+
+        String eTag = doctorVersionService.currentETag(doctorId);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
 
         ApiResponse<List<LeaveResponse>> response = leaveService.getLeavesByDoctor(doctorId);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(response);
     }
 
     @DeleteMapping("/{leaveId}")
@@ -3,11 +3,14 @@ package com.mediconnect.doctorservice.controller;
 import com.mediconnect.doctorservice.dto.requestDtos.ScheduleRequest;
 import com.mediconnect.doctorservice.dto.responseDtos.ApiResponse;
 import com.mediconnect.doctorservice.dto.responseDtos.ScheduleResponse;
+import com.mediconnect.doctorservice.service.DoctorVersionService;
 import com.mediconnect.doctorservice.service.ScheduleService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -18,6 +21,7 @@ import java.util.UUID;
 @Slf4j
 public class ScheduleController {
     private final ScheduleService scheduleService;
+    private final DoctorVersionService doctorVersionService;
 
     @PostMapping()
     public ResponseEntity<ApiResponse<ScheduleResponse>> addSchedule(
@@ -28,9 +32,17 @@ public class ScheduleController {
 
     @GetMapping("/{doctorId}")
     public ResponseEntity<ApiResponse<List<ScheduleResponse>>> getScheduleByDoctor(
-            @PathVariable UUID doctorId
+            @PathVariable UUID doctorId,
+            WebRequest webRequest
     ) {
-        return ResponseEntity.ok(scheduleService.getScheduleByDoctor(doctorId));
+        String eTag = doctorVersionService.currentETag(doctorId);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(scheduleService.getScheduleByDoctor(doctorId));
     }
 
     @PutMapping("/{id}")
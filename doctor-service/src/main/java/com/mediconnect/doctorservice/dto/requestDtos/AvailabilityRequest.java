@@ -14,4 +14,8 @@ public class AvailabilityRequest {
     private LocalTime startTime;
     private LocalTime endTime;
     private boolean available;
+
+    // optional, multiples of 5 minutes; left unchanged on update when null
+    private Integer slotMinutes;
+    private Integer bufferMinutes;
 }
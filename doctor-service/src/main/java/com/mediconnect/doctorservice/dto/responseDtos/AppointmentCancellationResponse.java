@@ -0,0 +1,21 @@
+package com.mediconnect.doctorservice.dto.responseDtos;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+// Result of appointment-service cancelling a doctor's appointments in a date range
+@Data
+@NoArgsConstructor
+public class AppointmentCancellationResponse {
+
+    private UUID doctorId;
+    private LocalDate from;
+    private LocalDate to;
+
+    private int cancelledCount;
+    private List<UUID> appointmentIds;
+}
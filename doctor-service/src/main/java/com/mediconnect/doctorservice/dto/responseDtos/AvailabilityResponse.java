@@ -17,4 +17,6 @@ public class AvailabilityResponse {
     private LocalTime startTime;
     private LocalTime endTime;
     private boolean available;
+    private int slotMinutes;
+    private int bufferMinutes;
 }
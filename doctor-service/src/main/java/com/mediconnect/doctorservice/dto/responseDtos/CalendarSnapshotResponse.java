@@ -0,0 +1,27 @@
+package com.mediconnect.doctorservice.dto.responseDtos;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+// Everything appointment-service needs to compute slots for a date range, in one payload
+@Data
+@Builder
+public class CalendarSnapshotResponse {
+
+    private UUID doctorId;
+    private LocalDate from;
+    private LocalDate to;
+
+    // only leaves overlapping the range
+    private List<LeaveResponse> leaves;
+
+    // only schedule overrides that fall inside the range
+    private List<ScheduleResponse> schedules;
+
+    // weekly working hours
+    private List<AvailabilityResponse> availability;
+}
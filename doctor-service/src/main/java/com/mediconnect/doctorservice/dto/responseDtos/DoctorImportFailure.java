@@ -0,0 +1,13 @@
+package com.mediconnect.doctorservice.dto.responseDtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class DoctorImportFailure {
+    // line of the uploaded file, the CSV header is line 1
+    private long line;
+    private String email;
+    private String reason;
+}
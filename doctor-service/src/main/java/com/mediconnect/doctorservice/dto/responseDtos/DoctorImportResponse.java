@@ -0,0 +1,15 @@
+package com.mediconnect.doctorservice.dto.responseDtos;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class DoctorImportResponse {
+    private int received;
+    private int imported;
+    private int failed;
+    private List<DoctorImportFailure> failures;
+}
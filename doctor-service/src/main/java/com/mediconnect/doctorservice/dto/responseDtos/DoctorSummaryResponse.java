@@ -0,0 +1,22 @@
+package com.mediconnect.doctorservice.dto.responseDtos;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+// List entry for doctor listings and search, the full profile is served by GET /doctors/{doctorId}
+@Data
+@Builder
+public class DoctorSummaryResponse {
+
+    private UUID doctorId;
+    private String firstName;
+    private String lastName;
+    private String primarySpecialization;
+    private boolean active;
+
+    // Next date, from today, on a weekday the doctor works; leaves and booked slots are not considered
+    private LocalDate nextAvailableDate;
+}
@@ -1,11 +1,14 @@
 package com.mediconnect.doctorservice.dto.responseDtos;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
 
 @Data
 @Builder
@@ -16,4 +19,11 @@ public class LeaveResponse {
     private LocalDate startDate;
     private LocalDate endDate;
     private String reason;
+
+    // only set on leave creation; null when appointment-service could not be reached yet and the cancellation is retried
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer cancelledAppointments;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<UUID> cancelledAppointmentIds;
 }
\ No newline at end of file
@@ -45,6 +45,10 @@ public class Doctor {
 
     private LocalDateTime updatedAt;
 
+    // Written only by DoctorRepository.incrementDataVersion, so saving a loaded doctor never resets it
+    @Column(insertable = false, updatable = false)
+    private long dataVersion;
+
     //Relation to other tables
 
     @OneToMany(mappedBy = "doctor", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -15,6 +15,9 @@ import java.time.LocalTime;
 @Setter
 public class DoctorAvailability {
 
+    public static final int DEFAULT_SLOT_MINUTES = 30;
+    public static final int DEFAULT_BUFFER_MINUTES = 0;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -34,7 +37,23 @@ public class DoctorAvailability {
 
     private boolean available = true;
 
+    // length of one consultation slot, null when the window never set one; see V5__availability_slot_settings.sql
+    @Column(name = "slot_minutes")
+    private Integer slotMinutes;
+
+    // idle minutes between the end of one slot and the start of the next
+    @Column(name = "buffer_minutes")
+    private Integer bufferMinutes;
+
     @ManyToOne
     @JoinColumn(name = "doctor_id", nullable = false)
     private Doctor doctor;
+
+    public int getEffectiveSlotMinutes() {
+        return slotMinutes != null ? slotMinutes : DEFAULT_SLOT_MINUTES;
+    }
+
+    public int getEffectiveBufferMinutes() {
+        return bufferMinutes != null ? bufferMinutes : DEFAULT_BUFFER_MINUTES;
+    }
 }
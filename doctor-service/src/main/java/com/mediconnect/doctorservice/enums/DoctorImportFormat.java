@@ -0,0 +1,6 @@
+package com.mediconnect.doctorservice.enums;
+
+public enum DoctorImportFormat {
+    CSV,
+    NDJSON
+}
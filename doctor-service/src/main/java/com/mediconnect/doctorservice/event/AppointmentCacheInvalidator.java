@@ -0,0 +1,82 @@
+package com.mediconnect.doctorservice.event;
+
+import com.mediconnect.doctorservice.client.AppointmentClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Tells appointment-service to drop its cached copy once the change is committed.
+ * <p>
+ * Every appointment-service instance keeps its own cache, so the call goes to each instance
+ * registered in discovery rather than through the load balancer, which would reach only one.
+ * Without any registered instance it falls back to the load-balanced {@link AppointmentClient}.
+ * An instance that can't be reached keeps the old calendar until its cache TTL runs out.
+ */
+@Component
+@Slf4j
+public class AppointmentCacheInvalidator {
+
+    private static final String SERVICE_ID = "appointment-service";
+
+    private final AppointmentClient appointmentClient;
+    private final DiscoveryClient discoveryClient;
+    private final RestClient restClient;
+    private final String path;
+
+    public AppointmentCacheInvalidator(
+            AppointmentClient appointmentClient,
+            DiscoveryClient discoveryClient,
+            @Value("${app.appointment-service.path:}") String path,
+            @Value("${app.appointment-service.invalidation-timeout-ms:2000}") long timeoutMs) {
+
+        this.appointmentClient = appointmentClient;
+        this.discoveryClient = discoveryClient;
+        this.path = path;
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(timeoutMs))
+                .build());
+        requestFactory.setReadTimeout(Duration.ofMillis(timeoutMs));
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDoctorCalendarChanged(DoctorCalendarChangedEvent event) {
+
+        List<ServiceInstance> instances = discoveryClient.getInstances(SERVICE_ID);
+
+        if (instances.isEmpty()) {
+            try {
+                appointmentClient.invalidateDoctorCache(event.doctorId());
+            } catch (Exception e) {
+                // appointment-service entries still expire on their own TTL
+                log.warn("Failed to invalidate appointment cache for doctor {}: {}", event.doctorId(), e.getMessage());
+            }
+            return;
+        }
+
+        for (ServiceInstance instance : instances) {
+            try {
+                restClient.delete()
+                        .uri(instance.getUri() + path + "/appointments/cache/doctors/{doctorId}", event.doctorId())
+                        .retrieve()
+                        .toBodilessEntity();
+            } catch (Exception e) {
+                log.warn("Failed to invalidate appointment cache for doctor {} on {}: {}",
+                        event.doctorId(), instance.getUri(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.mediconnect.doctorservice.event;
+
+import com.mediconnect.doctorservice.client.AppointmentClient;
+import com.mediconnect.doctorservice.dto.responseDtos.ApiResponse;
+import com.mediconnect.doctorservice.dto.responseDtos.AppointmentCancellationResponse;
+import com.mediconnect.doctorservice.entity.DoctorLeave;
+import com.mediconnect.doctorservice.entity.PendingAppointmentCancellation;
+import com.mediconnect.doctorservice.repository.PendingAppointmentCancellationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Delivers the appointment cancellations a new leave owes appointment-service.
+ * <p>
+ * The leave's transaction only stores a {@link PendingAppointmentCancellation}. Once it committed,
+ * the caller tries to deliver it right away; whatever fails stays in the table and is retried
+ * every {@code app.appointment-cancellation.retry-seconds} until appointment-service confirms it.
+ * Retrying is safe because the cancel endpoint only touches appointments that are still active.
+ */
+@Component
+@Slf4j
+public class AppointmentCancellationRelay {
+
+    private final PendingAppointmentCancellationRepository pendingRepository;
+    private final AppointmentClient appointmentClient;
+    private final Duration retryDelay;
+    private final int batchSize;
+
+    public AppointmentCancellationRelay(
+            PendingAppointmentCancellationRepository pendingRepository,
+            AppointmentClient appointmentClient,
+            @Value("${app.appointment-cancellation.retry-seconds:60}") long retrySeconds,
+            @Value("${app.appointment-cancellation.batch-size:50}") int batchSize) {
+        this.pendingRepository = pendingRepository;
+        this.appointmentClient = appointmentClient;
+        this.retryDelay = Duration.ofSeconds(retrySeconds);
+        this.batchSize = batchSize;
+    }
+
+    // Joins the caller's transaction; the first retry is due only after the caller's own attempt had its chance
+    public PendingAppointmentCancellation enqueue(DoctorLeave leave) {
+        LocalDateTime now = LocalDateTime.now();
+        return pendingRepository.save(PendingAppointmentCancellation.builder()
+                .doctorId(leave.getDoctor().getId())
+                .fromDate(leave.getStartDate())
+                .toDate(leave.getEndDate())
+                .createdAt(now)
+                .nextAttemptAt(now.plus(retryDelay))
+                .build());
+    }
+
+    // Must run outside any transaction. Returns null when appointment-service could not be reached
+    public AppointmentCancellationResponse deliver(PendingAppointmentCancellation pending) {
+        try {
+            ApiResponse<AppointmentCancellationResponse> response = appointmentClient.cancelAppointmentsInRange(
+                    pending.getDoctorId(), pending.getFromDate(), pending.getToDate());
+            pendingRepository.deleteById(pending.getId());
+            return response == null ? null : response.getData();
+
+        } catch (Exception e) {
+            log.warn("Failed to cancel appointments of doctor {} from {} to {} (attempt {}), retrying later: {}",
+                    pending.getDoctorId(), pending.getFromDate(), pending.getToDate(),
+                    pending.getAttempts() + 1, e.getMessage());
+            return null;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.appointment-cancellation.poll-interval-ms:10000}")
+    public void retryDue() {
+        try {
+            List<PendingAppointmentCancellation> due;
+            do {
+                LocalDateTime now = LocalDateTime.now();
+                due = pendingRepository.claimDue(now, now.plus(retryDelay), batchSize);
+                due.forEach(this::deliver);
+            } while (due.size() == batchSize);
+        } catch (Exception e) {
+            log.warn("Retrying pending appointment cancellations failed, trying again on the next run: {}", e.getMessage());
+        }
+    }
+}
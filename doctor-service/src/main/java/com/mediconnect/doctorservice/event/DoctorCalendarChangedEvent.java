@@ -0,0 +1,7 @@
+package com.mediconnect.doctorservice.event;
+
+import java.util.UUID;
+
+// Published whenever a doctor's availability, schedule overrides or leaves change
+public record DoctorCalendarChangedEvent(UUID doctorId) {
+}
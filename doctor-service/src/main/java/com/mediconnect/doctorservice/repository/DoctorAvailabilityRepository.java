@@ -4,6 +4,7 @@ import com.mediconnect.doctorservice.entity.DoctorAvailability;
 import com.mediconnect.doctorservice.enums.DayOfWeek;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,4 +16,6 @@ public interface DoctorAvailabilityRepository extends JpaRepository<DoctorAvaila
     Optional<DoctorAvailability> findByDoctor_IdAndDayOfWeek(UUID doctorId, DayOfWeek dayOfWeek);
 
     List<DoctorAvailability> findByDoctorId(UUID id);
+
+    List<DoctorAvailability> findByDoctorIdIn(Collection<UUID> doctorIds);
 }
@@ -3,12 +3,15 @@ package com.mediconnect.doctorservice.repository;
 import com.mediconnect.doctorservice.entity.DoctorEducation;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface DoctorEducationRepository extends JpaRepository<DoctorEducation, Long> {
     
     List<DoctorEducation> findByDoctorId(UUID doctorId);
+
+    List<DoctorEducation> findByDoctorIdIn(Collection<UUID> doctorIds);
     
     void deleteByDoctorIdAndId(UUID doctorId, Long id);
 }
@@ -3,12 +3,15 @@ package com.mediconnect.doctorservice.repository;
 import com.mediconnect.doctorservice.entity.DoctorExperience;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface DoctorExperienceRepository extends JpaRepository<DoctorExperience, Long> {
     
     List<DoctorExperience> findByDoctorId(UUID doctorId);
+
+    List<DoctorExperience> findByDoctorIdIn(Collection<UUID> doctorIds);
     
     void deleteByDoctorIdAndId(UUID doctorId, Long id);
 }
@@ -0,0 +1,7 @@
+package com.mediconnect.doctorservice.repository;
+
+import java.util.UUID;
+
+// The unique columns of a doctor, all an import needs to know about the rows already stored
+public record DoctorKeys(UUID userId, String email) {
+}
@@ -23,4 +23,13 @@ public interface DoctorLeaveRepository extends JpaRepository<DoctorLeave, Long>
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate
     );
+
+    @Query("SELECT l FROM DoctorLeave l " +
+           "WHERE l.doctor.id = :doctorId " +
+           "AND l.startDate <= :endDate AND l.endDate >= :startDate")
+    List<DoctorLeave> findOverlappingLeaves(
+            @Param("doctorId") UUID doctorId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
 }
\ No newline at end of file
@@ -4,11 +4,16 @@ import com.mediconnect.doctorservice.entity.Doctor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface DoctorRepository extends JpaRepository<Doctor, UUID> {
+public interface DoctorRepository extends JpaRepository<Doctor, UUID>, DoctorSearchRepository {
 
     Optional<Doctor> findByEmail(String email);
     
@@ -16,19 +21,38 @@ public interface DoctorRepository extends JpaRepository<Doctor, UUID> {
 
     boolean existsByEmail(String email);
 
+    // Stored doctors clashing with any of the given emails or users, one query for a whole batch of new rows
+    @Query("""
+            select new com.mediconnect.doctorservice.repository.DoctorKeys(d.userId, d.email)
+            from Doctor d
+            where d.email in :emails or d.userId in :userIds
+            """)
+    List<DoctorKeys> findKeysByEmailInOrUserIdIn(@Param("emails") Collection<String> emails,
+                                                 @Param("userIds") Collection<UUID> userIds);
+
     List<Doctor> findByPrimarySpecialization(String primarySpecialization);
 
     List<Doctor> findByActiveTrue();
 
-    Page<Doctor> findByActive(boolean active, Pageable pageable);
-
-    Page<Doctor> findByFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(
-            String firstName, String lastName, Pageable pageable
-    );
-
-    Page<Doctor> findByActiveAndFirstNameContainingIgnoreCaseOrActiveAndLastNameContainingIgnoreCase(
-            boolean active1, String firstName, boolean active2, String lastName, Pageable pageable
-    );
+    // Doctor list rows in a single query, the working days come from a correlated subquery
+    @Query(value = """
+            select new com.mediconnect.doctorservice.repository.DoctorSummary(
+                d.id, d.firstName, d.lastName, d.primarySpecialization, d.active,
+                (select listagg(cast(a.dayOfWeek as String), ',') from DoctorAvailability a
+                 where a.doctor = d and a.available = true))
+            from Doctor d
+            where :active is null or d.active = :active
+            """,
+            countQuery = "select count(d) from Doctor d where :active is null or d.active = :active")
+    Page<DoctorSummary> findSummaries(@Param("active") Boolean active, Pageable pageable);
+
+    @Query("select d.dataVersion from Doctor d where d.id = :doctorId")
+    Optional<Long> findDataVersion(@Param("doctorId") UUID doctorId);
+
+    @Transactional
+    @Modifying
+    @Query("update Doctor d set d.dataVersion = d.dataVersion + 1 where d.id = :doctorId")
+    int incrementDataVersion(@Param("doctorId") UUID doctorId);
 }
 
 
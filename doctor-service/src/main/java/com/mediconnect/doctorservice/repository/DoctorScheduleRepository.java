@@ -15,4 +15,6 @@ public interface DoctorScheduleRepository extends JpaRepository<DoctorSchedule,
     List<DoctorSchedule> findByDoctorId(UUID doctorId);
 
     Optional<DoctorSchedule> findByDoctorIdAndScheduleDate(UUID doctorId, LocalDate date);
+
+    List<DoctorSchedule> findByDoctorIdAndScheduleDateBetween(UUID doctorId, LocalDate startDate, LocalDate endDate);
 }
@@ -0,0 +1,12 @@
+package com.mediconnect.doctorservice.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+public interface DoctorSearchRepository {
+
+    // Doctors whose name, email or primary specialization matches every token, best matches first
+    Page<DoctorSummary> search(List<String> tokens, Boolean active, Pageable pageable);
+}
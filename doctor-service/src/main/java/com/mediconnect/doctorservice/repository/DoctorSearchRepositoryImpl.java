@@ -0,0 +1,68 @@
+package com.mediconnect.doctorservice.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Searches the trigram-indexed {@code doctors.search_text} column (see V2__doctor_search_index.sql).
+ * A token matches when it is similar enough to some part of the text ({@code <%}, governed by
+ * {@code pg_trgm.word_similarity_threshold}), which covers prefixes, substrings and small typos.
+ * Results are ranked by the summed word similarity of all tokens and come back as list rows,
+ * working days included, like {@link DoctorRepository#findSummaries}.
+ */
+public class DoctorSearchRepositoryImpl implements DoctorSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Page<DoctorSummary> search(List<String> tokens, Boolean active, Pageable pageable) {
+
+        StringBuilder where = new StringBuilder();
+        StringBuilder rank = new StringBuilder();
+        for (int i = 0; i < tokens.size(); i++) {
+            where.append(i == 0 ? "" : " AND ").append(":token").append(i).append(" <% d.search_text");
+            rank.append(i == 0 ? "" : " + ").append("word_similarity(:token").append(i).append(", d.search_text)");
+        }
+        if (active != null) {
+            where.append(" AND d.active = :active");
+        }
+
+        Query select = entityManager.createNativeQuery(
+                "SELECT d.id, d.first_name, d.last_name, d.primary_specialization, d.active, "
+                        + "(SELECT string_agg(a.day_of_week, ',') FROM doctor_availability a "
+                        + "WHERE a.doctor_id = d.id AND a.available) "
+                        + "FROM doctors d WHERE " + where
+                        + " ORDER BY " + rank + " DESC, d.last_name, d.first_name, d.id");
+        Query count = entityManager.createNativeQuery("SELECT count(*) FROM doctors d WHERE " + where);
+
+        bind(select, tokens, active);
+        bind(count, tokens, active);
+
+        select.setFirstResult((int) pageable.getOffset());
+        select.setMaxResults(pageable.getPageSize());
+
+        List<DoctorSummary> doctors = ((List<Object[]>) select.getResultList()).stream()
+                .map(row -> new DoctorSummary((UUID) row[0], (String) row[1], (String) row[2], (String) row[3],
+                        (Boolean) row[4], (String) row[5]))
+                .toList();
+        return PageableExecutionUtils.getPage(doctors, pageable, () -> ((Number) count.getSingleResult()).longValue());
+    }
+
+    private static void bind(Query query, List<String> tokens, Boolean active) {
+        for (int i = 0; i < tokens.size(); i++) {
+            query.setParameter("token" + i, tokens.get(i));
+        }
+        if (active != null) {
+            query.setParameter("active", active);
+        }
+    }
+}
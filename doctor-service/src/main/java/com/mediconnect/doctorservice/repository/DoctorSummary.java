@@ -0,0 +1,8 @@
+package com.mediconnect.doctorservice.repository;
+
+import java.util.UUID;
+
+// One row of a doctor list; workingDays holds the available days of week comma separated, or null
+public record DoctorSummary(UUID id, String firstName, String lastName, String primarySpecialization,
+                            boolean active, String workingDays) {
+}
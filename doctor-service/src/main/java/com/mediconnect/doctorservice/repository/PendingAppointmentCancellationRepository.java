@@ -0,0 +1,29 @@
+package com.mediconnect.doctorservice.repository;
+
+import com.mediconnect.doctorservice.entity.PendingAppointmentCancellation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PendingAppointmentCancellationRepository extends JpaRepository<PendingAppointmentCancellation, Long> {
+
+    // Claims due rows by pushing their next attempt out to retryAt, in one short statement. The HTTP
+    // call happens after this commits, so no row lock or connection is held while it runs, and rows
+    // another instance claimed a moment ago are skipped instead of waited for.
+    @Transactional
+    @Query(value = "UPDATE pending_appointment_cancellations " +
+                   "SET attempts = attempts + 1, next_attempt_at = :retryAt " +
+                   "WHERE id IN (SELECT id FROM pending_appointment_cancellations " +
+                   "             WHERE next_attempt_at <= :now ORDER BY next_attempt_at " +
+                   "             LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+                   "RETURNING *",
+           nativeQuery = true)
+    List<PendingAppointmentCancellation> claimDue(
+            @Param("now") LocalDateTime now,
+            @Param("retryAt") LocalDateTime retryAt,
+            @Param("limit") int limit);
+}
@@ -0,0 +1,12 @@
+package com.mediconnect.doctorservice.service;
+
+import com.mediconnect.doctorservice.dto.responseDtos.ApiResponse;
+import com.mediconnect.doctorservice.dto.responseDtos.CalendarSnapshotResponse;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface CalendarService {
+
+    ApiResponse<CalendarSnapshotResponse> getCalendarSnapshot(UUID doctorId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,13 @@
+package com.mediconnect.doctorservice.service;
+
+import com.mediconnect.doctorservice.dto.responseDtos.ApiResponse;
+import com.mediconnect.doctorservice.dto.responseDtos.DoctorImportResponse;
+import com.mediconnect.doctorservice.enums.DoctorImportFormat;
+
+import java.io.InputStream;
+
+public interface DoctorImportService {
+
+    // Reads the body row by row and stores every valid row, rows that can't be stored are reported back
+    ApiResponse<DoctorImportResponse> importDoctors(InputStream body, DoctorImportFormat format);
+}
@@ -5,6 +5,7 @@ import com.mediconnect.doctorservice.dto.requestDtos.DoctorRequest;
 import com.mediconnect.doctorservice.dto.requestDtos.EducationRequest;
 import com.mediconnect.doctorservice.dto.requestDtos.ExperienceRequest;
 import com.mediconnect.doctorservice.dto.responseDtos.DoctorResponse;
+import com.mediconnect.doctorservice.dto.responseDtos.DoctorSummaryResponse;
 import com.mediconnect.doctorservice.dto.responseDtos.EducationResponse;
 import com.mediconnect.doctorservice.dto.responseDtos.ExperienceResponse;
 
@@ -17,7 +18,7 @@ public interface DoctorService {
 
         ApiResponse<List<DoctorResponse>> createDoctorsBulk(List<DoctorRequest> requests);
 
-        ApiResponse<List<DoctorResponse>> getDoctorsByFilters(
+        ApiResponse<List<DoctorSummaryResponse>> getDoctorsByFilters(
                         Boolean active,
                         String name,
                         int page,
@@ -25,8 +26,12 @@ public interface DoctorService {
                         String sortBy,
                         String order);
 
+        ApiResponse<List<DoctorSummaryResponse>> searchDoctors(String query, Boolean active, int page, int size);
+
         ApiResponse<DoctorResponse> getDoctorById(UUID doctorId);
 
+        ApiResponse<List<DoctorResponse>> getActiveDoctorsBySpecialization(String specialization);
+
         ApiResponse<DoctorResponse> getDoctorByUserId(UUID userId);
 
         ApiResponse<DoctorResponse> updateDoctor(UUID doctorId, DoctorRequest request, UUID authenticatedUserId);
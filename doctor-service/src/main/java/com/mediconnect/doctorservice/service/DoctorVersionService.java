@@ -0,0 +1,11 @@
+package com.mediconnect.doctorservice.service;
+
+import java.util.UUID;
+
+public interface DoctorVersionService {
+
+    // ETag for everything served about the doctor, throws DoctorNotFoundException for unknown doctors
+    String currentETag(UUID doctorId);
+
+    void bump(UUID doctorId);
+}
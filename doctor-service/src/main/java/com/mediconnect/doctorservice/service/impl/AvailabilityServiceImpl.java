@@ -6,15 +6,20 @@ import com.mediconnect.doctorservice.dto.responseDtos.AvailabilityResponse;
 import com.mediconnect.doctorservice.dto.responseDtos.Meta;
 import com.mediconnect.doctorservice.entity.Doctor;
 import com.mediconnect.doctorservice.entity.DoctorAvailability;
+import com.mediconnect.doctorservice.event.DoctorCalendarChangedEvent;
 import com.mediconnect.doctorservice.exception.DoctorNotFoundException;
 import com.mediconnect.doctorservice.exception.InvalidAvailabilityException;
+import com.mediconnect.doctorservice.exception.InvalidRequestException;
 import com.mediconnect.doctorservice.repository.DoctorAvailabilityRepository;
 import com.mediconnect.doctorservice.repository.DoctorRepository;
 import com.mediconnect.doctorservice.service.AvailabilityService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -25,8 +30,15 @@ import java.util.stream.Collectors;
 @Slf4j
 public class AvailabilityServiceImpl implements AvailabilityService {
 
+    // appointment-service tracks bookings in 5-minute units
+    private static final int SLOT_STEP_MINUTES = 5;
+    private static final int MIN_SLOT_MINUTES = 5;
+    private static final int MAX_SLOT_MINUTES = 240;
+    private static final int MAX_BUFFER_MINUTES = 120;
+
     private final DoctorRepository doctorRepository;
     private final DoctorAvailabilityRepository availabilityRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Override
@@ -37,10 +49,7 @@ public class AvailabilityServiceImpl implements AvailabilityService {
                         new DoctorNotFoundException("Doctor not found with id: " + request.getDoctorId())
                 );
 
-        // Validate time range
-        if (request.getStartTime().isAfter(request.getEndTime())) {
-            throw new InvalidAvailabilityException("Start time must be before end time");
-        }
+        validateWindow(request);
 
         Optional<DoctorAvailability> existing =
                 availabilityRepository.findByDoctor_IdAndDayOfWeek(
@@ -62,8 +71,10 @@ public class AvailabilityServiceImpl implements AvailabilityService {
             availability.setEndTime(request.getEndTime());
             availability.setAvailable(request.isAvailable());
         }
+        applySlotSettings(availability, request);
 
         DoctorAvailability saved = availabilityRepository.save(availability);
+        eventPublisher.publishEvent(new DoctorCalendarChangedEvent(doctor.getId()));
 
         return ApiResponse.<AvailabilityResponse>builder()
                 .data(toResponse(saved))
@@ -119,16 +130,16 @@ public class AvailabilityServiceImpl implements AvailabilityService {
                                 new InvalidAvailabilityException("Availability not found with id: " + availabilityId)
                         );
 
-        if (request.getStartTime().isAfter(request.getEndTime())) {
-            throw new InvalidAvailabilityException("Start time must be before end time");
-        }
+        validateWindow(request);
 
         availability.setDayOfWeek(request.getDayOfWeek());
         availability.setStartTime(request.getStartTime());
         availability.setEndTime(request.getEndTime());
         availability.setAvailable(request.isAvailable());
+        applySlotSettings(availability, request);
 
         DoctorAvailability updated = availabilityRepository.save(availability);
+        eventPublisher.publishEvent(new DoctorCalendarChangedEvent(updated.getDoctor().getId()));
         return toResponse(updated);
     }
 
@@ -139,6 +150,53 @@ public class AvailabilityServiceImpl implements AvailabilityService {
             throw new InvalidAvailabilityException("No availability found with id: "+availabilityId);
         }
         availabilityRepository.deleteById(availabilityId);
+        eventPublisher.publishEvent(new DoctorCalendarChangedEvent(availability.get().getDoctor().getId()));
+    }
+
+    // Slots are laid out from the start time, so both ends must sit on appointment-service's 5-minute grid
+    private static void validateWindow(AvailabilityRequest request) {
+
+        if (request.getStartTime() == null || request.getEndTime() == null) {
+            throw new InvalidRequestException("Start time and end time are required");
+        }
+
+        if (!onSlotGrid(request.getStartTime()) || !onSlotGrid(request.getEndTime())) {
+            throw new InvalidRequestException("Start and end time must be on a " + SLOT_STEP_MINUTES + "-minute boundary");
+        }
+
+        if (request.getStartTime().isAfter(request.getEndTime())) {
+            throw new InvalidAvailabilityException("Start time must be before end time");
+        }
+    }
+
+    private static boolean onSlotGrid(LocalTime time) {
+        return time.getMinute() % SLOT_STEP_MINUTES == 0 && time.getSecond() == 0 && time.getNano() == 0;
+    }
+
+    private void applySlotSettings(DoctorAvailability availability, AvailabilityRequest request) {
+
+        if (request.getSlotMinutes() != null) {
+            if (request.getSlotMinutes() < MIN_SLOT_MINUTES || request.getSlotMinutes() > MAX_SLOT_MINUTES
+                    || request.getSlotMinutes() % SLOT_STEP_MINUTES != 0) {
+                throw new InvalidAvailabilityException("Slot length must be a multiple of " + SLOT_STEP_MINUTES
+                        + " between " + MIN_SLOT_MINUTES + " and " + MAX_SLOT_MINUTES + " minutes");
+            }
+            availability.setSlotMinutes(request.getSlotMinutes());
+        }
+
+        if (request.getBufferMinutes() != null) {
+            if (request.getBufferMinutes() < 0 || request.getBufferMinutes() > MAX_BUFFER_MINUTES
+                    || request.getBufferMinutes() % SLOT_STEP_MINUTES != 0) {
+                throw new InvalidAvailabilityException("Buffer must be a multiple of " + SLOT_STEP_MINUTES
+                        + " between 0 and " + MAX_BUFFER_MINUTES + " minutes");
+            }
+            availability.setBufferMinutes(request.getBufferMinutes());
+        }
+
+        long workingMinutes = Duration.between(availability.getStartTime(), availability.getEndTime()).toMinutes();
+        if (workingMinutes < availability.getEffectiveSlotMinutes()) {
+            throw new InvalidAvailabilityException("Working hours are shorter than one slot");
+        }
     }
 
     private AvailabilityResponse toResponse(DoctorAvailability a) {
@@ -149,6 +207,8 @@ public class AvailabilityServiceImpl implements AvailabilityService {
                 .startTime(a.getStartTime())
                 .endTime(a.getEndTime())
                 .available(a.isAvailable())
+                .slotMinutes(a.getEffectiveSlotMinutes())
+                .bufferMinutes(a.getEffectiveBufferMinutes())
                 .build();
     }
 }
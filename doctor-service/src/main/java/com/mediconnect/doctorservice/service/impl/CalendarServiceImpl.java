@@ -0,0 +1,108 @@
+package com.mediconnect.doctorservice.service.impl;
+
+import com.mediconnect.doctorservice.dto.responseDtos.ApiResponse;
+import com.mediconnect.doctorservice.dto.responseDtos.AvailabilityResponse;
+import com.mediconnect.doctorservice.dto.responseDtos.CalendarSnapshotResponse;
+import com.mediconnect.doctorservice.dto.responseDtos.LeaveResponse;
+import com.mediconnect.doctorservice.dto.responseDtos.ScheduleResponse;
+import com.mediconnect.doctorservice.entity.DoctorAvailability;
+import com.mediconnect.doctorservice.entity.DoctorLeave;
+import com.mediconnect.doctorservice.entity.DoctorSchedule;
+import com.mediconnect.doctorservice.exception.DoctorNotFoundException;
+import com.mediconnect.doctorservice.exception.InvalidRequestException;
+import com.mediconnect.doctorservice.repository.DoctorAvailabilityRepository;
+import com.mediconnect.doctorservice.repository.DoctorLeaveRepository;
+import com.mediconnect.doctorservice.repository.DoctorRepository;
+import com.mediconnect.doctorservice.repository.DoctorScheduleRepository;
+import com.mediconnect.doctorservice.service.CalendarService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CalendarServiceImpl implements CalendarService {
+
+    private final DoctorRepository doctorRepository;
+    private final DoctorLeaveRepository leaveRepository;
+    private final DoctorScheduleRepository scheduleRepository;
+    private final DoctorAvailabilityRepository availabilityRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public ApiResponse<CalendarSnapshotResponse> getCalendarSnapshot(UUID doctorId, LocalDate from, LocalDate to) {
+
+        if (from == null || to == null) {
+            throw new InvalidRequestException("From and to dates are required");
+        }
+
+        if (from.isAfter(to)) {
+            throw new InvalidRequestException("From date must be before or equal to to date");
+        }
+
+        if (!doctorRepository.existsById(doctorId)) {
+            throw new DoctorNotFoundException("Doctor not found with id: " + doctorId);
+        }
+
+        // Only read the rows that can affect slots in [from, to]
+        List<DoctorLeave> leaves = leaveRepository.findOverlappingLeaves(doctorId, from, to);
+        List<DoctorSchedule> schedules = scheduleRepository.findByDoctorIdAndScheduleDateBetween(doctorId, from, to);
+        List<DoctorAvailability> availability = availabilityRepository.findByDoctor_Id(doctorId);
+
+        CalendarSnapshotResponse snapshot = CalendarSnapshotResponse.builder()
+                .doctorId(doctorId)
+                .from(from)
+                .to(to)
+                .leaves(leaves.stream().map(this::toLeaveResponse).toList())
+                .schedules(schedules.stream().map(this::toScheduleResponse).toList())
+                .availability(availability.stream().map(this::toAvailabilityResponse).toList())
+                .build();
+
+        log.info("Calendar snapshot for doctor {} ({} to {}): {} leaves, {} schedules, {} availability",
+                doctorId, from, to, leaves.size(), schedules.size(), availability.size());
+
+        return ApiResponse.<CalendarSnapshotResponse>builder()
+                .success(true)
+                .message("Calendar snapshot fetched successfully")
+                .data(snapshot)
+                .build();
+    }
+
+    // Child rows skip doctorId, it is already on the snapshot
+    private LeaveResponse toLeaveResponse(DoctorLeave leave) {
+        return LeaveResponse.builder()
+                .id(leave.getId())
+                .startDate(leave.getStartDate())
+                .endDate(leave.getEndDate())
+                .reason(leave.getReason())
+                .build();
+    }
+
+    private ScheduleResponse toScheduleResponse(DoctorSchedule schedule) {
+        return ScheduleResponse.builder()
+                .id(schedule.getId())
+                .scheduleDate(schedule.getScheduleDate())
+                .startTime(schedule.getStartTime())
+                .endTime(schedule.getEndTime())
+                .working(schedule.isWorking())
+                .build();
+    }
+
+    private AvailabilityResponse toAvailabilityResponse(DoctorAvailability availability) {
+        return AvailabilityResponse.builder()
+                .availabilityId(availability.getId())
+                .dayOfWeek(availability.getDayOfWeek())
+                .startTime(availability.getStartTime())
+                .endTime(availability.getEndTime())
+                .available(availability.isAvailable())
+                .slotMinutes(availability.getEffectiveSlotMinutes())
+                .bufferMinutes(availability.getEffectiveBufferMinutes())
+                .build();
+    }
+}
@@ -0,0 +1,180 @@
+package com.mediconnect.doctorservice.service.impl;
+
+import com.mediconnect.doctorservice.dto.requestDtos.DoctorRequest;
+import com.mediconnect.doctorservice.enums.DoctorImportFormat;
+import com.mediconnect.doctorservice.exception.InvalidRequestException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Reads an uploaded doctor roster one line at a time, so only the current line is held in memory.
+ * <p>
+ * NDJSON has one {@link DoctorRequest} object per line. CSV starts with a header naming the
+ * {@link DoctorRequest} fields, in any order and case; userId, firstName, lastName and email are
+ * required. Values may be double quoted, with {@code ""} for a quote, but cannot span lines.
+ * A line that can't be read becomes a row with an error instead of failing the whole import.
+ */
+class DoctorImportReader implements Closeable {
+
+    private static final Set<String> CSV_COLUMNS = Set.of(
+            "userid", "firstname", "lastname", "email", "primaryspecialization", "active", "dateofjoining");
+    private static final Set<String> REQUIRED_CSV_COLUMNS = Set.of("userid", "firstname", "lastname", "email");
+
+    record Row(long line, DoctorRequest request, String error) {
+    }
+
+    private final BufferedReader reader;
+    private final DoctorImportFormat format;
+    private final JsonMapper jsonMapper;
+    private Map<String, Integer> csvColumns;
+    private long line;
+
+    DoctorImportReader(InputStream body, DoctorImportFormat format, JsonMapper jsonMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        this.format = format;
+        this.jsonMapper = jsonMapper;
+    }
+
+    // Next non-blank line, or null at the end of the body
+    Row next() throws IOException {
+        if (format == DoctorImportFormat.CSV && csvColumns == null) {
+            csvColumns = readCsvHeader();
+        }
+
+        String text;
+        do {
+            text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+        } while (text.isBlank());
+
+        try {
+            DoctorRequest request = format == DoctorImportFormat.CSV
+                    ? parseCsv(text)
+                    : jsonMapper.readValue(text, DoctorRequest.class);
+            return new Row(line, request, null);
+
+        } catch (JacksonException e) {
+            return new Row(line, null, "Not a valid doctor JSON object: " + e.getOriginalMessage());
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return new Row(line, null, e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private Map<String, Integer> readCsvHeader() throws IOException {
+        String header = reader.readLine();
+        line++;
+        if (header == null || header.isBlank()) {
+            throw new InvalidRequestException("CSV import needs a header line");
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = splitCsv(header.startsWith("\uFEFF") ? header.substring(1) : header);
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim().toLowerCase(Locale.ROOT);
+            if (!CSV_COLUMNS.contains(name)) {
+                throw new InvalidRequestException("Unknown CSV column '" + names.get(i) + "'");
+            }
+            columns.put(name, i);
+        }
+
+        if (!columns.keySet().containsAll(REQUIRED_CSV_COLUMNS)) {
+            throw new InvalidRequestException("CSV header must contain userId, firstName, lastName and email");
+        }
+        return columns;
+    }
+
+    private DoctorRequest parseCsv(String text) {
+        List<String> values = splitCsv(text);
+        if (values.size() != csvColumns.size()) {
+            throw new IllegalArgumentException(
+                    "Expected " + csvColumns.size() + " values but found " + values.size());
+        }
+
+        DoctorRequest request = new DoctorRequest();
+        String userId = value(values, "userid");
+        request.setUserId(userId == null ? null : UUID.fromString(userId));
+        request.setFirstName(value(values, "firstname"));
+        request.setLastName(value(values, "lastname"));
+        request.setEmail(value(values, "email"));
+        request.setPrimarySpecialization(value(values, "primaryspecialization"));
+
+        String active = value(values, "active");
+        if (active != null) {
+            if (!active.equalsIgnoreCase("true") && !active.equalsIgnoreCase("false")) {
+                throw new IllegalArgumentException("active must be true or false, was '" + active + "'");
+            }
+            request.setActive(Boolean.parseBoolean(active));
+        }
+
+        String dateOfJoining = value(values, "dateofjoining");
+        request.setDateOfJoining(dateOfJoining == null ? null : LocalDate.parse(dateOfJoining));
+        return request;
+    }
+
+    // Trimmed value of the column, null when the column is missing or empty
+    private String value(List<String> values, String column) {
+        Integer index = csvColumns.get(column);
+        if (index == null) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static List<String> splitCsv(String text) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted value");
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
@@ -0,0 +1,213 @@
+package com.mediconnect.doctorservice.service.impl;
+
+import com.mediconnect.doctorservice.dto.requestDtos.DoctorRequest;
+import com.mediconnect.doctorservice.dto.responseDtos.ApiResponse;
+import com.mediconnect.doctorservice.dto.responseDtos.DoctorImportFailure;
+import com.mediconnect.doctorservice.dto.responseDtos.DoctorImportResponse;
+import com.mediconnect.doctorservice.entity.Doctor;
+import com.mediconnect.doctorservice.enums.DoctorImportFormat;
+import com.mediconnect.doctorservice.exception.InvalidRequestException;
+import com.mediconnect.doctorservice.repository.DoctorKeys;
+import com.mediconnect.doctorservice.repository.DoctorRepository;
+import com.mediconnect.doctorservice.service.DoctorImportService;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Imports doctor rosters in chunks of {@code app.doctor-import.chunk-size} rows.
+ * <p>
+ * Each chunk costs one query to find emails and users that are already taken, and its new doctors
+ * are written in one transaction as JDBC batches of {@code hibernate.jdbc.batch_size} inserts.
+ * Rows that are invalid, repeat an earlier row of the same upload or clash with a stored doctor
+ * are reported with their line and skipped; they never stop the rest of the import. If another
+ * request takes an email between the check and the insert, that chunk is retried row by row so
+ * only the clashing row fails.
+ */
+@Service
+@Slf4j
+public class DoctorImportServiceImpl implements DoctorImportService {
+
+    private final DoctorRepository doctorRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonMapper jsonMapper;
+    private final int chunkSize;
+
+    public DoctorImportServiceImpl(
+            DoctorRepository doctorRepository,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            JsonMapper jsonMapper,
+            @Value("${app.doctor-import.chunk-size:500}") int chunkSize) {
+
+        this.doctorRepository = doctorRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jsonMapper = jsonMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public ApiResponse<DoctorImportResponse> importDoctors(InputStream body, DoctorImportFormat format) {
+
+        List<DoctorImportFailure> failures = new ArrayList<>();
+        List<DoctorImportReader.Row> chunk = new ArrayList<>(chunkSize);
+        Set<String> seenEmails = new HashSet<>();
+        Set<UUID> seenUserIds = new HashSet<>();
+        int received = 0;
+        int imported = 0;
+
+        try (DoctorImportReader reader = new DoctorImportReader(body, format, jsonMapper)) {
+            DoctorImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                received++;
+
+                String problem = row.error() != null ? row.error() : validate(row.request());
+                if (problem == null && !seenEmails.add(row.request().getEmail())) {
+                    problem = "Email appears on an earlier line of this import";
+                }
+                if (problem == null && !seenUserIds.add(row.request().getUserId())) {
+                    problem = "User appears on an earlier line of this import";
+                }
+
+                if (problem != null) {
+                    failures.add(failure(row, problem));
+                    continue;
+                }
+
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    imported += storeChunk(chunk, failures);
+                    chunk.clear();
+                }
+            }
+            imported += storeChunk(chunk, failures);
+
+        } catch (IOException e) {
+            throw new InvalidRequestException("Could not read the import: " + e.getMessage());
+        }
+
+        log.info("Doctor import finished: {} rows received, {} imported, {} failed",
+                received, imported, failures.size());
+
+        DoctorImportResponse response = DoctorImportResponse.builder()
+                .received(received)
+                .imported(imported)
+                .failed(failures.size())
+                .failures(failures)
+                .build();
+
+        return ApiResponse.<DoctorImportResponse>builder()
+                .data(response)
+                .success(failures.isEmpty())
+                .message("Imported " + imported + " of " + received + " doctors")
+                .meta(null)
+                .build();
+    }
+
+    private int storeChunk(List<DoctorImportReader.Row> chunk, List<DoctorImportFailure> failures) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> emails = chunk.stream().map(row -> row.request().getEmail()).collect(Collectors.toSet());
+        Set<UUID> userIds = chunk.stream().map(row -> row.request().getUserId()).collect(Collectors.toSet());
+
+        Set<String> takenEmails = new HashSet<>();
+        Set<UUID> takenUserIds = new HashSet<>();
+        for (DoctorKeys keys : doctorRepository.findKeysByEmailInOrUserIdIn(emails, userIds)) {
+            takenEmails.add(keys.email());
+            takenUserIds.add(keys.userId());
+        }
+
+        List<DoctorImportReader.Row> fresh = new ArrayList<>(chunk.size());
+        for (DoctorImportReader.Row row : chunk) {
+            if (takenEmails.contains(row.request().getEmail())) {
+                failures.add(failure(row, "Doctor with email '" + row.request().getEmail() + "' already exists"));
+            } else if (takenUserIds.contains(row.request().getUserId())) {
+                failures.add(failure(row, "A doctor already exists for user " + row.request().getUserId()));
+            } else {
+                fresh.add(row);
+            }
+        }
+
+        if (fresh.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            List<Doctor> doctors = fresh.stream().map(row -> toDoctor(row.request())).toList();
+            transactionTemplate.executeWithoutResult(status -> {
+                doctorRepository.saveAllAndFlush(doctors);
+                // with open-in-view the request's persistence context outlives the transaction
+                entityManager.clear();
+            });
+            return fresh.size();
+
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Doctor import chunk clashed with a concurrent insert, storing its rows one by one");
+            return storeOneByOne(fresh, failures);
+        }
+    }
+
+    private int storeOneByOne(List<DoctorImportReader.Row> rows, List<DoctorImportFailure> failures) {
+        int stored = 0;
+        for (DoctorImportReader.Row row : rows) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> doctorRepository.saveAndFlush(toDoctor(row.request())));
+                stored++;
+            } catch (DataIntegrityViolationException e) {
+                failures.add(failure(row, "Email or user is already taken by another doctor"));
+            }
+        }
+        return stored;
+    }
+
+    private static String validate(DoctorRequest request) {
+        if (request.getUserId() == null) {
+            return "userId is required";
+        }
+        if (isBlank(request.getFirstName()) || isBlank(request.getLastName())) {
+            return "firstName and lastName are required";
+        }
+        if (isBlank(request.getEmail())) {
+            return "email is required";
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static DoctorImportFailure failure(DoctorImportReader.Row row, String reason) {
+        return new DoctorImportFailure(row.line(), row.request() == null ? null : row.request().getEmail(), reason);
+    }
+
+    private static Doctor toDoctor(DoctorRequest request) {
+        return Doctor.builder()
+                .userId(request.getUserId())
+                .firstName(request.getFirstName())
+                .lastName(request.getLastName())
+                .email(request.getEmail())
+                .primarySpecialization(request.getPrimarySpecialization())
+                .active(request.isActive())
+                .dateOfJoining(request.getDateOfJoining())
+                .build();
+    }
+}
@@ -2,10 +2,14 @@ package com.mediconnect.doctorservice.service.impl;
 
 import com.mediconnect.doctorservice.dto.requestDtos.LeaveRequest;
 import com.mediconnect.doctorservice.dto.responseDtos.ApiResponse;
+import com.mediconnect.doctorservice.dto.responseDtos.AppointmentCancellationResponse;
 import com.mediconnect.doctorservice.dto.responseDtos.LeaveResponse;
 import com.mediconnect.doctorservice.dto.responseDtos.Meta;
 import com.mediconnect.doctorservice.entity.Doctor;
 import com.mediconnect.doctorservice.entity.DoctorLeave;
+import com.mediconnect.doctorservice.entity.PendingAppointmentCancellation;
+import com.mediconnect.doctorservice.event.AppointmentCancellationRelay;
+import com.mediconnect.doctorservice.event.DoctorCalendarChangedEvent;
 import com.mediconnect.doctorservice.exception.DoctorNotFoundException;
 import com.mediconnect.doctorservice.exception.InvalidRequestException;
 import com.mediconnect.doctorservice.exception.ResourceNotFoundException;
@@ -15,9 +19,12 @@ import com.mediconnect.doctorservice.repository.DoctorRepository;
 import com.mediconnect.doctorservice.service.DoctorLeaveService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.UUID;
 
@@ -26,11 +33,20 @@ import java.util.UUID;
 @Slf4j
 public class DoctorLeaveServiceImpl implements DoctorLeaveService {
 
+    // appointment-service cancels at most this many days in one call
+    private static final int MAX_LEAVE_DAYS = 366;
+
     private final DoctorRepository doctorRepository;
     private final DoctorLeaveRepository leaveRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AppointmentCancellationRelay cancellationRelay;
+    private final TransactionTemplate transactionTemplate;
+
+    private record CreatedLeave(DoctorLeave leave, PendingAppointmentCancellation cancellation) {
+    }
 
+    // Not @Transactional: the leave and its pending cancellation commit first, appointment-service is called after
     @Override
-    @Transactional
     public ApiResponse<LeaveResponse> createLeave(UUID authenticatedUserId, LeaveRequest request) {
 
         if (request.getStartDate() == null || request.getEndDate() == null) {
@@ -41,6 +57,39 @@ public class DoctorLeaveServiceImpl implements DoctorLeaveService {
             throw new InvalidRequestException("Start date must be before or equal to end date");
         }
 
+        if (ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) >= MAX_LEAVE_DAYS) {
+            throw new InvalidRequestException("Leave cannot be longer than " + MAX_LEAVE_DAYS + " days");
+        }
+
+        CreatedLeave created = transactionTemplate.execute(status -> storeLeave(authenticatedUserId, request));
+        DoctorLeave saved = created.leave();
+
+        log.info("Leave created for doctor: {}, dates: {} to {}",
+                saved.getDoctor().getId(), saved.getStartDate(), saved.getEndDate());
+
+        LeaveResponse response = mapToResponse(saved);
+        AppointmentCancellationResponse cancellation = cancellationRelay.deliver(created.cancellation());
+
+        if (cancellation == null) {
+            return ApiResponse.<LeaveResponse>builder()
+                    .success(true)
+                    .message("Leave created, appointments in this period will be cancelled shortly")
+                    .data(response)
+                    .build();
+        }
+
+        response.setCancelledAppointments(cancellation.getCancelledCount());
+        response.setCancelledAppointmentIds(cancellation.getAppointmentIds());
+
+        return ApiResponse.<LeaveResponse>builder()
+                .success(true)
+                .message("Leave created successfully, " + cancellation.getCancelledCount() + " appointments cancelled")
+                .data(response)
+                .build();
+    }
+
+    private CreatedLeave storeLeave(UUID authenticatedUserId, LeaveRequest request) {
+
         Doctor doctor = doctorRepository.findByUserId(authenticatedUserId)
                 .orElseThrow(() -> new DoctorNotFoundException(
                         "Doctor not found for authenticated user"
@@ -65,15 +114,9 @@ public class DoctorLeaveServiceImpl implements DoctorLeaveService {
         leave.setReason(request.getReason());
 
         DoctorLeave saved = leaveRepository.save(leave);
+        eventPublisher.publishEvent(new DoctorCalendarChangedEvent(doctor.getId()));
 
-        log.info("Leave created for doctor: {}, dates: {} to {}",
-                doctor.getId(), saved.getStartDate(), saved.getEndDate());
-
-        return ApiResponse.<LeaveResponse>builder()
-                .success(true)
-                .message("Leave created successfully")
-                .data(mapToResponse(saved))
-                .build();
+        return new CreatedLeave(saved, cancellationRelay.enqueue(saved));
     }
 
     @Override
@@ -123,6 +166,7 @@ public class DoctorLeaveServiceImpl implements DoctorLeaveService {
         }
 
         leaveRepository.delete(leave);
+        eventPublisher.publishEvent(new DoctorCalendarChangedEvent(authenticatedDoctor.getId()));
 
         log.info("Leave deleted: id={}, doctor={}", leaveId, authenticatedDoctor.getId());
 
@@ -11,8 +11,11 @@ import com.mediconnect.doctorservice.exception.InvalidRequestException;
 import com.mediconnect.doctorservice.repository.DoctorAvailabilityRepository;
 import com.mediconnect.doctorservice.repository.DoctorEducationRepository;
 import com.mediconnect.doctorservice.repository.DoctorExperienceRepository;
+import com.mediconnect.doctorservice.repository.DoctorKeys;
 import com.mediconnect.doctorservice.repository.DoctorRepository;
+import com.mediconnect.doctorservice.repository.DoctorSummary;
 import com.mediconnect.doctorservice.service.DoctorService;
+import com.mediconnect.doctorservice.service.DoctorVersionService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,7 +26,14 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -32,10 +42,14 @@ import java.util.stream.Collectors;
 public class DoctorServiceImpl implements DoctorService {
 
         private static final Logger log = LoggerFactory.getLogger(DoctorServiceImpl.class);
+        // Single characters never reach the trigram similarity threshold, and more tokens only narrow the match
+        private static final int MIN_SEARCH_TOKEN_LENGTH = 2;
+        private static final int MAX_SEARCH_TOKENS = 5;
         private final DoctorRepository doctorRepository;
         private final DoctorEducationRepository educationRepository;
         private final DoctorExperienceRepository experienceRepository;
         private final DoctorAvailabilityRepository availabilityRepository;
+        private final DoctorVersionService doctorVersionService;
 
         @Override
         public ApiResponse<DoctorResponse> createDoctor(DoctorRequest request) {
@@ -67,12 +81,29 @@ public class DoctorServiceImpl implements DoctorService {
         @Override
         public ApiResponse<List<DoctorResponse>> createDoctorsBulk(List<DoctorRequest> requests) {
 
-                List<Doctor> doctors = requests.stream().map(req -> {
+                if (requests.isEmpty()) {
+                        throw new InvalidRequestException("No doctors to create");
+                }
 
-                        if (doctorRepository.existsByEmail(req.getEmail())) {
-                                throw new DoctorAlreadyExistsException(
-                                                "Duplicate email found: " + req.getEmail());
+                // One query for the whole request instead of one per row; any clash rejects the request
+                Set<String> emails = new HashSet<>();
+                Set<UUID> userIds = new HashSet<>();
+                for (DoctorRequest req : requests) {
+                        if (!emails.add(req.getEmail())) {
+                                throw new DoctorAlreadyExistsException("Duplicate email found: " + req.getEmail());
                         }
+                        userIds.add(req.getUserId());
+                }
+
+                List<DoctorKeys> existing = doctorRepository.findKeysByEmailInOrUserIdIn(emails, userIds);
+                if (!existing.isEmpty()) {
+                        DoctorKeys clash = existing.getFirst();
+                        throw new DoctorAlreadyExistsException(emails.contains(clash.email())
+                                        ? "Duplicate email found: " + clash.email()
+                                        : "A doctor already exists for user " + clash.userId());
+                }
+
+                List<Doctor> doctors = requests.stream().map(req -> {
 
                         return Doctor.builder()
                                         .userId(req.getUserId())
@@ -88,19 +119,16 @@ public class DoctorServiceImpl implements DoctorService {
 
                 List<Doctor> savedDoctors = doctorRepository.saveAll(doctors);
 
+                // New doctors have no education, experience or availability yet
                 List<DoctorResponse> doctorResponses = savedDoctors.stream()
-                                .map(this::toDoctorResponse)
+                                .map(doctor -> toDoctorResponse(doctor, List.of(), List.of(), List.of()))
                                 .toList();
                 Meta meta = Meta.builder()
                                 .matched(savedDoctors.size())
                                 .returned(doctorResponses.size())
                                 .page(0)
-                                .size(10)
+                                .size(doctorResponses.size())
                                 .totalPages(1)
-                                .sortBy(doctorResponses.getFirst().getPrimarySpecialization())
-                                .order(doctorResponses.getFirst().getFirstName()
-                                                + doctorResponses.getFirst().getLastName())
-                                .active(doctorResponses.getFirst().isActive())
                                 .build();
 
                 return ApiResponse.<List<DoctorResponse>>builder()
@@ -113,7 +141,8 @@ public class DoctorServiceImpl implements DoctorService {
         }
 
         @Override
-        public ApiResponse<List<DoctorResponse>> getDoctorsByFilters(
+        @Transactional(readOnly = true)
+        public ApiResponse<List<DoctorSummaryResponse>> getDoctorsByFilters(
                         Boolean active,
                         String name,
                         int page,
@@ -121,36 +150,18 @@ public class DoctorServiceImpl implements DoctorService {
                         String sortBy,
                         String order) {
 
+                // Name searches go through the search index and come back ranked by relevance
+                if (name != null && !name.trim().isEmpty()) {
+                        return searchDoctors(name, active, page, size);
+                }
+
                 Sort sort = order.equalsIgnoreCase("desc") ? Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
 
                 Pageable pageable = PageRequest.of(page, size, sort);
 
-                Page<Doctor> doctorPage;
+                Page<DoctorSummary> doctorPage = doctorRepository.findSummaries(active, pageable);
 
-                // Search by name and active status
-                if (name != null && !name.trim().isEmpty()) {
-                        if (active == null) {
-                                doctorPage = doctorRepository
-                                                .findByFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(
-                                                                name, name, pageable);
-                        } else {
-                                doctorPage = doctorRepository
-                                                .findByActiveAndFirstNameContainingIgnoreCaseOrActiveAndLastNameContainingIgnoreCase(
-                                                                active, name, active, name, pageable);
-                        }
-                } else {
-                        // Original logic when no name search
-                        if (active == null) {
-                                doctorPage = doctorRepository.findAll(pageable);
-                        } else {
-                                doctorPage = doctorRepository.findByActive(active, pageable);
-                        }
-                }
-
-                List<DoctorResponse> responses = doctorPage.getContent()
-                                .stream()
-                                .map(this::toDoctorResponse)
-                                .toList();
+                List<DoctorSummaryResponse> responses = toDoctorSummaryResponses(doctorPage.getContent());
 
                 // log.info("Doctor service: No of doctors fetched: {}",responses.size());
 
@@ -165,7 +176,7 @@ public class DoctorServiceImpl implements DoctorService {
                                 .active(active)
                                 .build();
 
-                return ApiResponse.<List<DoctorResponse>>builder()
+                return ApiResponse.<List<DoctorSummaryResponse>>builder()
                                 .success(true)
                                 .message("Doctors retrieved successfully")
                                 .data(responses)
@@ -174,6 +185,45 @@ public class DoctorServiceImpl implements DoctorService {
         }
 
         @Override
+        @Transactional(readOnly = true)
+        public ApiResponse<List<DoctorSummaryResponse>> searchDoctors(String query, Boolean active, int page, int size) {
+
+                List<String> tokens = query == null ? List.of()
+                                : Arrays.stream(query.toLowerCase(Locale.ROOT).trim().split("\\s+"))
+                                                .filter(token -> token.length() >= MIN_SEARCH_TOKEN_LENGTH)
+                                                .distinct()
+                                                .limit(MAX_SEARCH_TOKENS)
+                                                .toList();
+
+                Pageable pageable = PageRequest.of(page, size);
+
+                Page<DoctorSummary> doctorPage = tokens.isEmpty()
+                                ? Page.empty(pageable)
+                                : doctorRepository.search(tokens, active, pageable);
+
+                List<DoctorSummaryResponse> responses = toDoctorSummaryResponses(doctorPage.getContent());
+
+                Meta meta = Meta.builder()
+                                .matched((int) doctorPage.getTotalElements())
+                                .returned(responses.size())
+                                .page(page)
+                                .size(size)
+                                .totalPages(doctorPage.getTotalPages())
+                                .sortBy("relevance")
+                                .order("desc")
+                                .active(active)
+                                .build();
+
+                return ApiResponse.<List<DoctorSummaryResponse>>builder()
+                                .success(true)
+                                .message("Doctors retrieved successfully")
+                                .data(responses)
+                                .meta(meta)
+                                .build();
+        }
+
+        @Override
+        @Transactional(readOnly = true)
         public ApiResponse<DoctorResponse> getDoctorById(UUID doctorId) {
 
                 Doctor doctor = doctorRepository.findById(doctorId)
@@ -200,6 +250,30 @@ public class DoctorServiceImpl implements DoctorService {
                                 .build();
         }
 
+        @Override
+        @Transactional(readOnly = true)
+        public ApiResponse<List<DoctorResponse>> getActiveDoctorsBySpecialization(String specialization) {
+
+                List<DoctorResponse> responses = toDoctorResponses(
+                                doctorRepository.findByPrimarySpecialization(specialization)
+                                                .stream()
+                                                .filter(Doctor::isActive)
+                                                .toList());
+
+                Meta meta = Meta.builder()
+                                .matched(responses.size())
+                                .returned(responses.size())
+                                .active(true)
+                                .build();
+
+                return ApiResponse.<List<DoctorResponse>>builder()
+                                .data(responses)
+                                .success(true)
+                                .message("Doctors retrieved successfully")
+                                .meta(meta)
+                                .build();
+        }
+
         @Override
         public ApiResponse<String> deleteDoctorById(UUID doctorId) {
                 if (!doctorRepository.existsById(doctorId)) {
@@ -215,6 +289,7 @@ public class DoctorServiceImpl implements DoctorService {
         }
 
         @Override
+        @Transactional(readOnly = true)
         public ApiResponse<DoctorResponse> getDoctorByUserId(UUID userId) {
                 Doctor doctor = doctorRepository.findByUserId(userId)
                                 .orElseThrow(() -> new DoctorNotFoundException("Doctor not found for user: " + userId));
@@ -249,6 +324,7 @@ public class DoctorServiceImpl implements DoctorService {
                 }
 
                 Doctor updatedDoctor = doctorRepository.save(doctor);
+                doctorVersionService.bump(doctorId);
 
                 return ApiResponse.<DoctorResponse>builder()
                                 .data(toDoctorResponse(updatedDoctor))
@@ -278,6 +354,7 @@ public class DoctorServiceImpl implements DoctorService {
                 education.setDoctor(doctor);
 
                 DoctorEducation saved = educationRepository.save(education);
+                doctorVersionService.bump(doctorId);
 
                 return ApiResponse.<EducationResponse>builder()
                                 .data(toEducationResponse(saved))
@@ -307,6 +384,7 @@ public class DoctorServiceImpl implements DoctorService {
                 experience.setDoctor(doctor);
 
                 DoctorExperience saved = experienceRepository.save(experience);
+                doctorVersionService.bump(doctorId);
 
                 return ApiResponse.<ExperienceResponse>builder()
                                 .data(toExperienceResponse(saved))
@@ -341,6 +419,7 @@ public class DoctorServiceImpl implements DoctorService {
                 education.setYearOfCompletion(request.getYearOfCompletion());
 
                 DoctorEducation saved = educationRepository.save(education);
+                doctorVersionService.bump(doctorId);
 
                 return ApiResponse.<EducationResponse>builder()
                                 .data(toEducationResponse(saved))
@@ -376,6 +455,7 @@ public class DoctorServiceImpl implements DoctorService {
                 experience.setYears(request.getYears());
 
                 DoctorExperience saved = experienceRepository.save(experience);
+                doctorVersionService.bump(doctorId);
 
                 return ApiResponse.<ExperienceResponse>builder()
                                 .data(toExperienceResponse(saved))
@@ -398,6 +478,7 @@ public class DoctorServiceImpl implements DoctorService {
                 }
 
                 educationRepository.deleteByDoctorIdAndId(doctorId, educationId);
+                doctorVersionService.bump(doctorId);
 
                 return ApiResponse.<String>builder()
                                 .data("Deleted")
@@ -420,6 +501,7 @@ public class DoctorServiceImpl implements DoctorService {
                 }
 
                 experienceRepository.deleteByDoctorIdAndId(doctorId, experienceId);
+                doctorVersionService.bump(doctorId);
 
                 return ApiResponse.<String>builder()
                                 .data("Deleted")
@@ -430,10 +512,38 @@ public class DoctorServiceImpl implements DoctorService {
         }
 
         private DoctorResponse toDoctorResponse(Doctor doctor) {
-                // Fetch related data
-                List<DoctorEducation> educationList = educationRepository.findByDoctorId(doctor.getId());
-                List<DoctorExperience> experienceList = experienceRepository.findByDoctorId(doctor.getId());
-                List<DoctorAvailability> availabilityList = availabilityRepository.findByDoctorId(doctor.getId());
+                return toDoctorResponses(List.of(doctor)).getFirst();
+        }
+
+        // Loads the related data of all doctors with one query per collection instead of three per doctor.
+        // Runs inside the caller's transaction, so each row's doctor is taken from the persistence context.
+        private List<DoctorResponse> toDoctorResponses(List<Doctor> doctors) {
+                if (doctors.isEmpty()) {
+                        return List.of();
+                }
+
+                List<UUID> doctorIds = doctors.stream().map(Doctor::getId).toList();
+
+                Map<UUID, List<DoctorEducation>> educationByDoctor = educationRepository.findByDoctorIdIn(doctorIds)
+                                .stream()
+                                .collect(Collectors.groupingBy(education -> education.getDoctor().getId()));
+                Map<UUID, List<DoctorExperience>> experienceByDoctor = experienceRepository.findByDoctorIdIn(doctorIds)
+                                .stream()
+                                .collect(Collectors.groupingBy(experience -> experience.getDoctor().getId()));
+                Map<UUID, List<DoctorAvailability>> availabilityByDoctor = availabilityRepository.findByDoctorIdIn(doctorIds)
+                                .stream()
+                                .collect(Collectors.groupingBy(availability -> availability.getDoctor().getId()));
+
+                return doctors.stream()
+                                .map(doctor -> toDoctorResponse(doctor,
+                                                educationByDoctor.getOrDefault(doctor.getId(), List.of()),
+                                                experienceByDoctor.getOrDefault(doctor.getId(), List.of()),
+                                                availabilityByDoctor.getOrDefault(doctor.getId(), List.of())))
+                                .toList();
+        }
+
+        private DoctorResponse toDoctorResponse(Doctor doctor, List<DoctorEducation> educationList,
+                        List<DoctorExperience> experienceList, List<DoctorAvailability> availabilityList) {
 
                 // Convert to response DTOs
                 List<EducationResponse> educationResponses = educationList.stream()
@@ -470,6 +580,39 @@ public class DoctorServiceImpl implements DoctorService {
                                 .build();
         }
 
+        private List<DoctorSummaryResponse> toDoctorSummaryResponses(List<DoctorSummary> doctors) {
+                LocalDate today = LocalDate.now();
+                return doctors.stream()
+                                .map(doctor -> DoctorSummaryResponse.builder()
+                                                .doctorId(doctor.id())
+                                                .firstName(doctor.firstName())
+                                                .lastName(doctor.lastName())
+                                                .primarySpecialization(doctor.primarySpecialization())
+                                                .active(doctor.active())
+                                                .nextAvailableDate(nextWorkingDate(doctor.workingDays(), today))
+                                                .build())
+                                .toList();
+        }
+
+        // First date from today that falls on one of the comma separated working days
+        private static LocalDate nextWorkingDate(String workingDays, LocalDate today) {
+                if (workingDays == null) {
+                        return null;
+                }
+
+                Set<DayOfWeek> days = Arrays.stream(workingDays.split(","))
+                                .map(DayOfWeek::valueOf)
+                                .collect(Collectors.toSet());
+
+                for (int i = 0; i < 7; i++) {
+                        LocalDate date = today.plusDays(i);
+                        if (days.contains(date.getDayOfWeek())) {
+                                return date;
+                        }
+                }
+                return null;
+        }
+
         private EducationResponse toEducationResponse(DoctorEducation education) {
                 return EducationResponse.builder()
                                 .id(education.getId())
@@ -495,6 +638,8 @@ public class DoctorServiceImpl implements DoctorService {
                                 .startTime(availability.getStartTime())
                                 .endTime(availability.getEndTime())
                                 .available(availability.isAvailable())
+                                .slotMinutes(availability.getEffectiveSlotMinutes())
+                                .bufferMinutes(availability.getEffectiveBufferMinutes())
                                 .build();
         }
 }
@@ -0,0 +1,41 @@
+package com.mediconnect.doctorservice.service.impl;
+
+import com.mediconnect.doctorservice.event.DoctorCalendarChangedEvent;
+import com.mediconnect.doctorservice.exception.DoctorNotFoundException;
+import com.mediconnect.doctorservice.repository.DoctorRepository;
+import com.mediconnect.doctorservice.service.DoctorVersionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * One counter per doctor, stored on the doctors row so every instance hands out the same ETags.
+ * Profile changes bump it from DoctorServiceImpl; availability, schedule and leave changes bump it
+ * through the DoctorCalendarChangedEvent they already publish, inside their transaction if they
+ * run in one.
+ */
+@Service
+@RequiredArgsConstructor
+public class DoctorVersionServiceImpl implements DoctorVersionService {
+
+    private final DoctorRepository doctorRepository;
+
+    @Override
+    public String currentETag(UUID doctorId) {
+        long version = doctorRepository.findDataVersion(doctorId)
+                .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with id: " + doctorId));
+        return doctorId + "-" + version;
+    }
+
+    @Override
+    public void bump(UUID doctorId) {
+        doctorRepository.incrementDataVersion(doctorId);
+    }
+
+    @EventListener
+    public void onDoctorCalendarChanged(DoctorCalendarChangedEvent event) {
+        bump(event.doctorId());
+    }
+}
@@ -6,6 +6,7 @@ import com.mediconnect.doctorservice.dto.responseDtos.Meta;
 import com.mediconnect.doctorservice.dto.responseDtos.ScheduleResponse;
 import com.mediconnect.doctorservice.entity.Doctor;
 import com.mediconnect.doctorservice.entity.DoctorSchedule;
+import com.mediconnect.doctorservice.event.DoctorCalendarChangedEvent;
 import com.mediconnect.doctorservice.exception.DoctorNotFoundException;
 import com.mediconnect.doctorservice.exception.InvalidScheduleException;
 import com.mediconnect.doctorservice.exception.ScheduleNotFoundException;
@@ -13,6 +14,7 @@ import com.mediconnect.doctorservice.repository.DoctorRepository;
 import com.mediconnect.doctorservice.repository.DoctorScheduleRepository;
 import com.mediconnect.doctorservice.service.ScheduleService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -25,6 +27,7 @@ public class ScheduleServiceImpl implements ScheduleService {
 
     private final DoctorRepository doctorRepository;
     private final DoctorScheduleRepository scheduleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public ApiResponse<ScheduleResponse> addSchedule(ScheduleRequest request) {
@@ -58,6 +61,7 @@ public class ScheduleServiceImpl implements ScheduleService {
                 .build();
 
         DoctorSchedule saved = scheduleRepository.save(schedule);
+        eventPublisher.publishEvent(new DoctorCalendarChangedEvent(doctor.getId()));
 
         ScheduleResponse response = mapToResponse(saved);
 
@@ -123,6 +127,10 @@ public class ScheduleServiceImpl implements ScheduleService {
                 .build();
 
         DoctorSchedule saved = scheduleRepository.save(updated);
+        eventPublisher.publishEvent(new DoctorCalendarChangedEvent(existing.getDoctor().getId()));
+        if (!existing.getDoctor().getId().equals(doctor.getId())) {
+            eventPublisher.publishEvent(new DoctorCalendarChangedEvent(doctor.getId()));
+        }
 
         ScheduleResponse response = mapToResponse(saved);
 
@@ -136,13 +144,13 @@ public class ScheduleServiceImpl implements ScheduleService {
     @Override
     public ApiResponse<String> deleteSchedule(Long id) {
 
-        if (!scheduleRepository.existsById(id)) {
-            throw new ScheduleNotFoundException(
-                    "Schedule not found with id: " + id
-            );
-        }
+        DoctorSchedule schedule = scheduleRepository.findById(id)
+                .orElseThrow(() -> new ScheduleNotFoundException(
+                        "Schedule not found with id: " + id
+                ));
 
         scheduleRepository.deleteById(id);
+        eventPublisher.publishEvent(new DoctorCalendarChangedEvent(schedule.getDoctor().getId()));
 
         return ApiResponse.<String>builder()
                 .success(true)
@@ -0,0 +1,13 @@
+-- Matches the table Hibernate used to create, so existing databases are left untouched
+CREATE TABLE IF NOT EXISTS doctors (
+    id                     UUID         NOT NULL PRIMARY KEY,
+    user_id                UUID         NOT NULL UNIQUE,
+    first_name             VARCHAR(255) NOT NULL,
+    last_name              VARCHAR(255) NOT NULL,
+    email                  VARCHAR(255) NOT NULL UNIQUE,
+    primary_specialization VARCHAR(255),
+    active                 BOOLEAN      NOT NULL,
+    date_of_joining        DATE,
+    created_at             TIMESTAMP(6),
+    updated_at             TIMESTAMP(6)
+);
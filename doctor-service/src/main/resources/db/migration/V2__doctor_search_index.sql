@@ -0,0 +1,12 @@
+-- Text searched by GET /doctors/search. Postgres keeps the generated column in step with every
+-- insert and update, and the trigram index serves both the substring (LIKE) and the fuzzy
+-- (word similarity) matches, which a B-tree index on the name columns cannot.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE doctors
+    ADD COLUMN IF NOT EXISTS search_text TEXT GENERATED ALWAYS AS (
+        lower(first_name || ' ' || last_name || ' ' || email || ' ' || coalesce(primary_specialization, ''))
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS ix_doctors_search_text_trgm
+    ON doctors USING gin (search_text gin_trgm_ops);
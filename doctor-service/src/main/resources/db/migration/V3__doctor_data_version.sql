@@ -0,0 +1,4 @@
+-- Per-doctor counter behind the ETags of the doctor's GET endpoints. Bumped in the same transaction
+-- as every change to the profile, education, experience, availability, schedules or leaves.
+ALTER TABLE doctors
+    ADD COLUMN IF NOT EXISTS data_version BIGINT NOT NULL DEFAULT 0;
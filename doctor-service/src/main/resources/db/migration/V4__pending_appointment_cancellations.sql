@@ -0,0 +1,15 @@
+-- Appointment cancellations owed to appointment-service for a new leave. Written in the leave's
+-- transaction and deleted once appointment-service confirmed them; next_attempt_at is when a
+-- retry may pick the row up again.
+CREATE TABLE IF NOT EXISTS pending_appointment_cancellations (
+    id              BIGSERIAL    PRIMARY KEY,
+    doctor_id       UUID         NOT NULL,
+    from_date       DATE         NOT NULL,
+    to_date         DATE         NOT NULL,
+    attempts        INTEGER      NOT NULL DEFAULT 0,
+    created_at      TIMESTAMP(6) NOT NULL,
+    next_attempt_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS ix_pending_appointment_cancellations_next_attempt
+    ON pending_appointment_cancellations (next_attempt_at);
@@ -0,0 +1,19 @@
+-- Matches the table Hibernate used to create, so existing databases are left untouched
+CREATE TABLE IF NOT EXISTS doctor_availability (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    doctor_id   UUID         NOT NULL REFERENCES doctors (id),
+    day_of_week VARCHAR(255) NOT NULL,
+    start_time  TIME(6)      NOT NULL,
+    end_time    TIME(6)      NOT NULL,
+    available   BOOLEAN      NOT NULL,
+    CONSTRAINT uk_doctor_availability_doctor_day UNIQUE (doctor_id, day_of_week)
+);
+
+-- Per-window slot settings; rows written before they were configurable get the defaults of
+-- DoctorAvailability.DEFAULT_SLOT_MINUTES and DEFAULT_BUFFER_MINUTES
+ALTER TABLE doctor_availability
+    ADD COLUMN IF NOT EXISTS slot_minutes   INTEGER DEFAULT 30,
+    ADD COLUMN IF NOT EXISTS buffer_minutes INTEGER DEFAULT 0;
+
+UPDATE doctor_availability SET slot_minutes = 30 WHERE slot_minutes IS NULL;
+UPDATE doctor_availability SET buffer_minutes = 0 WHERE buffer_minutes IS NULL;
@@ -0,0 +1,104 @@
+package com.mediconnect.doctorservice.service.impl;
+
+import com.mediconnect.doctorservice.dto.responseDtos.DoctorImportFailure;
+import com.mediconnect.doctorservice.dto.responseDtos.DoctorImportResponse;
+import com.mediconnect.doctorservice.entity.Doctor;
+import com.mediconnect.doctorservice.enums.DoctorImportFormat;
+import com.mediconnect.doctorservice.repository.DoctorRepository;
+import com.mediconnect.doctorservice.support.PostgresJpaTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.jackson.autoconfigure.JacksonAutoConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Imports rosters into an embedded PostgreSQL and checks that every chunk costs one duplicate
+ * check plus batched inserts, and that bad rows are reported by line without stopping the import.
+ */
+@TestPropertySource(properties = "app.doctor-import.chunk-size=" + DoctorImportServiceTest.CHUNK_SIZE)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import(DoctorImportServiceImpl.class)
+class DoctorImportServiceTest extends PostgresJpaTest {
+
+	static final int CHUNK_SIZE = 100;
+	private static final int ROWS = 250;
+	private static final String HEADER = "email,userId,firstName,lastName,primarySpecialization,active,dateOfJoining";
+
+	@Autowired
+	private DoctorImportServiceImpl importService;
+
+	@Autowired
+	private DoctorRepository doctorRepository;
+
+	@BeforeEach
+	void storeExistingDoctor() {
+		entityManager.persist(Doctor.builder()
+				.userId(UUID.randomUUID())
+				.firstName("Existing")
+				.lastName("Doctor")
+				.email("existing@clinic.test")
+				.active(true)
+				.build());
+		startCountingStatements();
+	}
+
+	@Test
+	void csvRosterIsStoredInBatchesAndBadRowsAreReported() {
+
+		StringBuilder csv = new StringBuilder(HEADER).append('\n');
+		for (int i = 0; i < ROWS; i++) {
+			csv.append("doctor").append(i).append("@clinic.test,").append(UUID.randomUUID())
+					.append(",Doctor,\"Number ").append(i).append("\",CARDIOLOGY,true,2020-01-01\n");
+		}
+		csv.append("existing@clinic.test,").append(UUID.randomUUID()).append(",Taken,Email,,,\n");
+		csv.append("doctor0@clinic.test,").append(UUID.randomUUID()).append(",Repeated,Email,,,\n");
+		csv.append("broken@clinic.test,not-a-uuid,Broken,Row,,,\n");
+		csv.append("nameless@clinic.test,").append(UUID.randomUUID()).append(",,,,,\n");
+
+		DoctorImportResponse response = importService.importDoctors(stream(csv.toString()), DoctorImportFormat.CSV).getData();
+
+		assertEquals(ROWS + 4, response.getReceived());
+		assertEquals(ROWS, response.getImported());
+		assertEquals(List.of(252L, 253L, 254L, 255L), response.getFailures().stream().map(DoctorImportFailure::getLine).sorted().toList());
+		assertEquals(ROWS + 1, doctorRepository.count());
+
+		// per chunk one duplicate check and one batched insert, never a statement per row
+		long chunks = (ROWS + 1 + CHUNK_SIZE - 1) / CHUNK_SIZE;
+		assertTrue(statementCount() <= chunks * 2 + 1,
+				() -> statementCount() + " statements for " + chunks + " chunks");
+	}
+
+	@Test
+	void ndjsonLinesThatAreNotDoctorsAreReportedAndTheRestIsStored() {
+
+		String ndjson = """
+				{"userId": "%s", "firstName": "Json", "lastName": "Doctor", "email": "json@clinic.test", "active": true}
+
+				{"userId": "%s", "firstName": "Cut off"
+				""".formatted(UUID.randomUUID(), UUID.randomUUID());
+
+		DoctorImportResponse response = importService.importDoctors(stream(ndjson), DoctorImportFormat.NDJSON).getData();
+
+		assertEquals(2, response.getReceived());
+		assertEquals(1, response.getImported());
+		assertEquals(3, response.getFailures().getFirst().getLine());
+		assertTrue(doctorRepository.findByEmail("json@clinic.test").isPresent());
+		assertFalse(response.getFailures().getFirst().getReason().isBlank());
+	}
+
+	private static ByteArrayInputStream stream(String body) {
+		return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,110 @@
+package com.mediconnect.doctorservice.service.impl;
+
+import com.mediconnect.doctorservice.dto.responseDtos.ApiResponse;
+import com.mediconnect.doctorservice.dto.responseDtos.DoctorResponse;
+import com.mediconnect.doctorservice.dto.responseDtos.DoctorSummaryResponse;
+import com.mediconnect.doctorservice.entity.Doctor;
+import com.mediconnect.doctorservice.entity.DoctorAvailability;
+import com.mediconnect.doctorservice.entity.DoctorEducation;
+import com.mediconnect.doctorservice.entity.DoctorExperience;
+import com.mediconnect.doctorservice.enums.DayOfWeek;
+import com.mediconnect.doctorservice.support.PostgresJpaTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Counts the SQL statements behind the doctor list endpoints. A list or search page costs the page
+ * query and its count query. Full profiles cost one more query per related collection, however
+ * many doctors are returned.
+ */
+@Import({DoctorServiceImpl.class, DoctorVersionServiceImpl.class})
+class DoctorServiceQueryCountTest extends PostgresJpaTest {
+
+	private static final int DOCTORS = 30;
+	private static final long STATEMENTS_PER_PAGE = 2;
+	private static final long STATEMENTS_PER_PROFILE_LIST = 4;
+
+	@Autowired
+	private DoctorServiceImpl doctorService;
+
+	@BeforeEach
+	void createDoctors() {
+		for (int i = 0; i < DOCTORS; i++) {
+			Doctor doctor = Doctor.builder()
+					.userId(UUID.randomUUID())
+					.firstName("Doctor")
+					.lastName("Number" + i)
+					.email("doctor" + i + "@clinic.test")
+					.primarySpecialization("CARDIOLOGY")
+					.active(true)
+					.build();
+			entityManager.persist(doctor);
+
+			for (int j = 0; j < 2; j++) {
+				entityManager.persist(new DoctorEducation(null, "MBBS", "College " + j, 2000 + j, doctor));
+				entityManager.persist(new DoctorExperience(null, "Hospital " + j, "Resident", 2, doctor));
+
+				DoctorAvailability availability = new DoctorAvailability();
+				availability.setDayOfWeek(DayOfWeek.values()[j]);
+				availability.setStartTime(LocalTime.of(9, 0));
+				availability.setEndTime(LocalTime.of(17, 0));
+				availability.setDoctor(doctor);
+				entityManager.persist(availability);
+			}
+		}
+
+		startCountingStatements();
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {5, 10, 20})
+	void listPageCostsTheSameNumberOfStatementsForAnyPageSize(int size) {
+
+		ApiResponse<List<DoctorSummaryResponse>> response = doctorService.getDoctorsByFilters(true, null, 0, size, "lastName", "asc");
+
+		assertEquals(size, response.getData().size());
+		assertEquals(STATEMENTS_PER_PAGE, statementCount());
+		response.getData().forEach(doctor -> assertNotNull(doctor.getNextAvailableDate()));
+	}
+
+	@Test
+	void searchPageCostsTheSameNumberOfStatements() {
+
+		ApiResponse<List<DoctorSummaryResponse>> response = doctorService.searchDoctors("doctor cardiology", null, 0, 10);
+
+		assertEquals(10, response.getData().size());
+		assertEquals(STATEMENTS_PER_PAGE, statementCount());
+		response.getData().forEach(doctor -> assertNotNull(doctor.getNextAvailableDate()));
+	}
+
+	@Test
+	void fullProfilesLoadEachRelatedCollectionOnce() {
+
+		ApiResponse<List<DoctorResponse>> response = doctorService.getActiveDoctorsBySpecialization("CARDIOLOGY");
+
+		assertEquals(DOCTORS, response.getData().size());
+		assertEquals(STATEMENTS_PER_PROFILE_LIST, statementCount());
+		assertRelatedDataLoaded(response.getData());
+	}
+
+	private static void assertRelatedDataLoaded(List<DoctorResponse> doctors) {
+		for (DoctorResponse doctor : doctors) {
+			assertEquals(2, doctor.getEducationList().size());
+			assertEquals(2, doctor.getExperienceList().size());
+			assertEquals(2, doctor.getAvailabilityList().size());
+			assertTrue(doctor.isProfileComplete());
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package com.mediconnect.doctorservice.support;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Base of the JPA tests that need real PostgreSQL behaviour and count the SQL statements they cause.
+ * <p>
+ * All subclasses share one embedded PostgreSQL, started on first use and stopped when the JVM exits.
+ * Under root it runs in an unprivileged user namespace, so the tests also run in container builds.
+ * Subclasses persist their fixture, then call {@link #startCountingStatements()} so only the
+ * statements of the code under test are counted. Extra properties go in {@code @TestPropertySource}.
+ */
+@DataJpaTest(properties = {
+		// bootstrap.yml imports the config server, load no bootstrap file at all
+		"spring.cloud.bootstrap.name=none",
+		"spring.cloud.config.enabled=false",
+		"spring.jpa.hibernate.ddl-auto=update",
+		"spring.jpa.properties.hibernate.generate_statistics=true"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public abstract class PostgresJpaTest {
+
+	private static EmbeddedPostgres postgres;
+
+	@Autowired
+	protected EntityManager entityManager;
+
+	private Statistics statistics;
+
+	@DynamicPropertySource
+	static void dataSource(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", () -> postgres().getJdbcUrl("postgres", "postgres"));
+		registry.add("spring.datasource.username", () -> "postgres");
+	}
+
+	private static synchronized EmbeddedPostgres postgres() {
+		if (postgres == null) {
+			try {
+				postgres = EmbeddedPostgres.start();
+			} catch (IOException e) {
+				throw new UncheckedIOException("Could not start the embedded PostgreSQL", e);
+			}
+		}
+		return postgres;
+	}
+
+	// Writes the fixture and starts from an empty persistence context, as a request does
+	protected void startCountingStatements() {
+		entityManager.flush();
+		entityManager.clear();
+
+		statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	protected long statementCount() {
+		return statistics.getPrepareStatementCount();
+	}
+}